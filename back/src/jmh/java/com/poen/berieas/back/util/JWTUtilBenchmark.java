@@ -0,0 +1,54 @@
+package com.poen.berieas.back.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+// 요청 1건당 Access 토큰 인증 비용
+// - before: 검증/memberId/role 을 각각 새 파서로 파싱 (서명 검증 3회, 기존 JWTFilter)
+// - after : JWTUtil.parse 한 번 (미리 만든 파서, 서명 검증 1회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+
+        secretKey = new SecretKeySpec("poenitdevelopoperations1234567890".getBytes(StandardCharsets.UTF_8),
+            Jwts.SIG.HS256.key().build().getAlgorithm());
+        token = JWTUtil.createJwt("member01", "USER", true);
+    }
+
+    @Benchmark
+    public void before(Blackhole blackhole) {
+
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        blackhole.consume("access".equals(claims.get("type", String.class)));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("sub", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class));
+    }
+
+    @Benchmark
+    public void after(Blackhole blackhole) {
+
+        blackhole.consume(JWTUtil.parse(token, true));
+    }
+}
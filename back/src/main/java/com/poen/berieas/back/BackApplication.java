@@ -1,5 +1,7 @@
 package com.poen.berieas.back;
 
+import java.util.Map;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -9,7 +11,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class BackApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BackApplication.class, args);
+		SpringApplication application = new SpringApplication(BackApplication.class);
+		// 리버스 프록시 뒤 실제 클라이언트 IP 사용 - 신뢰 프록시(server.tomcat.remoteip.internal-proxies, 기본 사설망 대역)가 보낸 X-Forwarded-For 만 반영
+		// (로그인 시도 제한 IP 버킷 등 request.getRemoteAddr() 기준, application.properties 로 변경 가능)
+		application.setDefaultProperties(Map.of("server.forward-headers-strategy", "native"));
+		application.run(args);
 	}
 
 }
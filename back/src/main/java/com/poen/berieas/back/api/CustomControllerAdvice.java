@@ -3,6 +3,7 @@ package com.poen.berieas.back.api;
 import java.nio.file.AccessDeniedException;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.poen.berieas.back.domain.approval.service.ApprovalTransitionException;
 import com.poen.berieas.back.util.MessageUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +50,14 @@ public class CustomControllerAdvice extends ResponseEntityExceptionHandler {
                 .body(messageUtil.getMessage("error.access.denied"));
     }
 
+    // 결재 상태 전이 불가 (메시지 키 → 다국어 메시지)
+    @ExceptionHandler(ApprovalTransitionException.class)
+    public ResponseEntity<String> handleApprovalTransitionException(ApprovalTransitionException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(messageUtil.getMessage(ex.getMessageKey()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
         // IllegalArgumentException의 원래 메시지를 반환 (이미 다국어 처리됨)
@@ -60,6 +70,14 @@ public class CustomControllerAdvice extends ResponseEntityExceptionHandler {
                 .body(message);
     }
 
+    // 동시에 같은 문서를 처리하여 상태가 이미 바뀐 경우
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         // RuntimeException 메시지가 있으면 그대로 사용 (이미 다국어 처리됨)
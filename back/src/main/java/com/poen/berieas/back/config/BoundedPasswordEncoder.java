@@ -0,0 +1,88 @@
+package com.poen.berieas.back.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.poen.berieas.back.filter.LoginThrottledException;
+
+// 로그인 비밀번호 확인(BCrypt) 전용 작업 풀 - 로그인 인증 Provider 에만 사용
+// - 비교는 작업자 수만큼만 동시에 실행 (로그인 몰림에도 CPU 를 다 쓰지 않음)
+// - 대기열이 차면 바로 거절(429) → 로그인 요청이 요청 스레드를 무한정 붙잡지 않아 다른 API 지연 유지
+// - encode 는 작업 풀을 거치지 않음 (회원 생성 / 비밀번호 변경은 기본 PasswordEncoder 사용)
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int workers, int queueSize, Duration timeout) {
+
+        this.delegate = delegate;
+        this.timeout = timeout;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNo.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new LoginThrottledException("password hashing queue is full", timeout);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new LoginThrottledException("password hashing timed out", timeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,137 @@
+package com.poen.berieas.back.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.poen.berieas.back.util.JWTUtil.TokenClaims;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 캐시 이름
+    public static final String MEMBER = "member";
+    public static final String FORM_LIST = "formList";
+    public static final String FORM = "form";
+    public static final String BASIC = "basic";
+    public static final String ACCESS_TOKEN = "accessToken";
+    public static final String PROGRESS_COUNT = "progressCount";
+
+    // 회원 캐시 (memberId -> 회원 요약), 변경은 하루 몇 번 수준
+    @Value("${cache.member.max-size:10000}")
+    private long memberMaxSize;
+
+    @Value("${cache.member.ttl:PT10M}")
+    private Duration memberTtl;
+
+    // 양식 캐시 (formNo -> 양식 + 결재자), 양식 등록/삭제 시 무효화
+    // 결재자 이름/부서/직급이 바뀌어도 TTL 안에 반영되도록 만료 시간을 둠
+    @Value("${cache.form.max-size:500}")
+    private long formMaxSize;
+
+    @Value("${cache.form.ttl:PT30M}")
+    private Duration formTtl;
+
+    // 코드 테이블 캐시 (type -> 부서/직급 목록, 도메인), BasicService 변경 시 무효화
+    // DB 직접 수정분은 TTL 또는 /admin/cache/basic/refresh 로 반영
+    @Value("${cache.basic.ttl:PT1H}")
+    private Duration basicTtl;
+
+    // 검증된 Access 토큰 캐시 (토큰 SHA-256 -> memberId/role/만료), 같은 토큰 재요청 시 서명 검증/파싱 생략
+    // 토큰 만료 시각과 TTL 중 빠른 쪽에 만료 (enabled=false 면 매 요청 검증)
+    @Value("${cache.access-token.enabled:true}")
+    private boolean accessTokenEnabled;
+
+    @Value("${cache.access-token.max-size:10000}")
+    private long accessTokenMaxSize;
+
+    @Value("${cache.access-token.ttl:PT5M}")
+    private Duration accessTokenTtl;
+
+    // 진행목록 건수 캐시 (목록/사용자/기간/키워드 -> 건수), 커서 조회의 count=true 용 근사값이라 무효화 없이 TTL 로만 갱신
+    @Value("${cache.progress-count.max-size:10000}")
+    private long progressCountMaxSize;
+
+    @Value("${cache.progress-count.ttl:PT1M}")
+    private Duration progressCountTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // 아래에 등록한 캐시만 사용 (이름 오타로 크기 제한 없는 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(MEMBER, Caffeine.newBuilder()
+            .maximumSize(memberMaxSize)
+            .expireAfterWrite(memberTtl)
+            .recordStats()
+            .build());
+
+        cacheManager.registerCustomCache(FORM_LIST, Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(formTtl)
+            .recordStats()
+            .build());
+
+        cacheManager.registerCustomCache(FORM, Caffeine.newBuilder()
+            .maximumSize(formMaxSize)
+            .expireAfterWrite(formTtl)
+            .recordStats()
+            .build());
+
+        cacheManager.registerCustomCache(BASIC, Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(basicTtl)
+            .recordStats()
+            .build());
+
+        cacheManager.registerCustomCache(PROGRESS_COUNT, Caffeine.newBuilder()
+            .maximumSize(progressCountMaxSize)
+            .expireAfterWrite(progressCountTtl)
+            .recordStats()
+            .build());
+
+        if (accessTokenEnabled) {
+            cacheManager.registerCustomCache(ACCESS_TOKEN, Caffeine.newBuilder()
+                .maximumSize(accessTokenMaxSize)
+                .expireAfter(Expiry.creating((Object key, Object value) -> {
+                    Duration untilExpiry = Duration.ofMillis(((TokenClaims) value).expiration().getTime() - System.currentTimeMillis());
+                    return untilExpiry.compareTo(accessTokenTtl) < 0 ? untilExpiry : accessTokenTtl;
+                }))
+                .recordStats()
+                .build());
+        }
+
+        return cacheManager;
+    }
+
+    // 캐시 무효화 (즉시 제거 + 커밋 후 한 번 더 제거)
+    // 커밋 전에 다른 요청이 옛 값을 다시 올릴 수 있으므로 트랜잭션 안이면 완료 시점에 다시 실행
+    public static void evictAfterCompletion(Runnable eviction) {
+
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.poen.berieas.back.config;
+
+import java.util.List;
+
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+import com.poen.berieas.back.domain.basic.service.BasicCacheService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 코드 테이블 캐시의 도메인 값으로 CORS 허용 origin 구성
+// 도메인 캐시가 무효화되면 다음 요청에서 새 값으로 다시 만듦 (재시작 불필요)
+public class DomainCorsConfigurationSource implements CorsConfigurationSource {
+
+    private final BasicCacheService basicCacheService;
+
+    private volatile DomainCors current;
+
+    public DomainCorsConfigurationSource(BasicCacheService basicCacheService) {
+        this.basicCacheService = basicCacheService;
+    }
+
+    @Override
+    public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
+
+        String domain = basicCacheService.getDomain();
+
+        DomainCors cors = current;
+        if (cors == null || !cors.domain().equals(domain)) {
+            cors = new DomainCors(domain, build(domain));
+            current = cors;
+        }
+        return cors.configuration();
+    }
+
+    private CorsConfiguration build(String domain) {
+
+        CorsConfiguration configuration = new CorsConfiguration();
+
+        // 개발용 + 운영용 도메인 설정
+        configuration.setAllowedOrigins(List.of("http://localhost", "http://127.0.0.1", "http://" + domain, "https://" + domain));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(true);
+        configuration.setExposedHeaders(List.of("Authorization", "Set-Cookie", "Content-Disposition", "Content-Range", "Accept-Ranges", "ETag"));
+        configuration.setMaxAge(3600L);
+        return configuration;
+    }
+
+    private record DomainCors(String domain, CorsConfiguration configuration) {
+    }
+}
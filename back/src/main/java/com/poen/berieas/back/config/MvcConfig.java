@@ -7,38 +7,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.web.servlet.LocaleResolver;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
-import com.poen.berieas.back.domain.basic.entity.Basic;
-import com.poen.berieas.back.domain.basic.repository.BasicRepository;
-
-import lombok.RequiredArgsConstructor;
-
 @Configuration
-@RequiredArgsConstructor
 public class MvcConfig implements WebMvcConfigurer {
 
-    private final BasicRepository basicRepository;
-
-    
-    @Override
-    public void addCorsMappings(CorsRegistry corsRegistry) {
-
-        String domain = basicRepository.findByTypeAndName("domain", "도메인")
-            .map(Basic::getCode)
-            .orElse("localhost"); // 기본값: localhost
-
-        corsRegistry.addMapping("/**")
-                .allowedOrigins("http://localhost", "http://127.0.0.1", "http://" + domain)
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                .allowCredentials(true)
-                .allowedHeaders("*")
-                .exposedHeaders("Set-Cookie", "Authorization");
-    }
+    // CORS는 SecurityConfig.corsConfigurationSource 한 곳에서 처리
 
     // MessageSource 등록
     @Bean
@@ -1,25 +1,32 @@
 package com.poen.berieas.back.config;
 
-import java.time.LocalDateTime;
-
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.poen.berieas.back.domain.jwt.repository.RefreshRepository;
+import com.poen.berieas.back.domain.approval.service.AttachmentStore;
+import com.poen.berieas.back.domain.system.service.TtlPurgeService;
 
 @Component
 public class ScheduleConfig {
     
-    private final RefreshRepository refreshRepository;
+    private final TtlPurgeService ttlPurgeService;
+    private final AttachmentStore attachmentStore;
 
-    public ScheduleConfig(RefreshRepository refreshRepository) {
-        this.refreshRepository = refreshRepository;
+    public ScheduleConfig(TtlPurgeService ttlPurgeService, AttachmentStore attachmentStore) {
+        this.ttlPurgeService = ttlPurgeService;
+        this.attachmentStore = attachmentStore;
     }
 
-    // Refresh 토큰 저장소 8일 지난 토큰 삭제
+    // Refresh 토큰 저장소 8일 지난 토큰 + 만료된 비밀번호 재설정 인증 코드 삭제 (배치 단위)
     @Scheduled(cron = "0 0 3 * * *")
     public void refreshEntityTtlSchedule() {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(8); // 8일 
-        refreshRepository.deleteByCreatedDateBefore(cutoff);
+        ttlPurgeService.purgeRefreshTokens();
+        ttlPurgeService.purgePasswordResetRequests();
+    }
+
+    // 참조가 모두 해제된 첨부파일 내용 삭제
+    @Scheduled(cron = "0 30 3 * * *")
+    public void attachmentBlobPurgeSchedule() {
+        attachmentStore.purgeUnreferenced();
     }
 }
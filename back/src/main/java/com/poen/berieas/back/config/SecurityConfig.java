@@ -1,38 +1,43 @@
 package com.poen.berieas.back.config;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
-import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import com.poen.berieas.back.domain.basic.entity.Basic;
-import com.poen.berieas.back.domain.basic.repository.BasicRepository;
+import com.poen.berieas.back.domain.basic.service.BasicCacheService;
+import com.poen.berieas.back.domain.jwt.service.AccessTokenCacheService;
 import com.poen.berieas.back.domain.jwt.service.JwtService;
 import com.poen.berieas.back.domain.member.entity.RoleType;
-import com.poen.berieas.back.domain.member.repository.MemberRepository;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
 import com.poen.berieas.back.filter.JWTFilter;
 import com.poen.berieas.back.filter.LoginFilter;
+import com.poen.berieas.back.filter.LoginRateLimiter;
 import com.poen.berieas.back.handler.RefreshTokenLogoutHandler;
 import com.poen.berieas.back.util.MessageUtil;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
@@ -42,19 +47,24 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final AuthenticationSuccessHandler loginSuccessHandler;
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
-    private final BasicRepository basicRepository;
+    private final AccessTokenCacheService accessTokenCacheService;
+    private final MemberCacheService memberCacheService;
+    private final BasicCacheService basicCacheService;
     private final MessageUtil messageUtil;
+    private final LoginRateLimiter loginRateLimiter;
 
     public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, @Qualifier("LoginSuccessHandler")AuthenticationSuccessHandler loginSuccessHandler,
-        JwtService jwtService, MemberRepository memberRepository, BasicRepository basicRepository, MessageUtil messageUtil) {
+        JwtService jwtService, AccessTokenCacheService accessTokenCacheService, MemberCacheService memberCacheService, BasicCacheService basicCacheService, MessageUtil messageUtil,
+        LoginRateLimiter loginRateLimiter) {
 
         this.authenticationConfiguration = authenticationConfiguration;
         this.loginSuccessHandler = loginSuccessHandler;
         this.jwtService = jwtService;
-        this.memberRepository = memberRepository;
-        this.basicRepository = basicRepository;
+        this.accessTokenCacheService = accessTokenCacheService;
+        this.memberCacheService = memberCacheService;
+        this.basicCacheService = basicCacheService;
         this.messageUtil = messageUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     // 커스텀 자체 로그인 필터를 위한 AuthenticationManager Bean 등록
@@ -72,41 +82,39 @@ public class SecurityConfig {
                 .build();
     }
     
-    // 비밀번호 단방향 암호화용
+    // 비밀번호 단방향 암호화용 (회원 생성 / 비밀번호 변경 등 저장 시 사용)
     @Bean
+    @Primary
     public PasswordEncoder passwordEncoder() {
 
         return new BCryptPasswordEncoder();
     }
 
-    // CORS Bean
+    // 로그인 비밀번호 확인용 (BCrypt 비교는 전용 작업 풀에서만 실행, workers 0 이면 CPU 코어 수)
+    @Bean
+    public BoundedPasswordEncoder loginPasswordEncoder(
+            @Value("${login.hashing.workers:0}") int workers,
+            @Value("${login.hashing.queue-size:50}") int queueSize,
+            @Value("${login.hashing.timeout:PT5S}") Duration timeout) {
+
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(passwordEncoder(), poolSize, queueSize, timeout);
+    }
+
+    // 로그인 인증 Provider - 비밀번호 확인만 작업 풀 사용
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, BoundedPasswordEncoder loginPasswordEncoder) {
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(loginPasswordEncoder);
+        return provider;
+    }
+
+    // CORS Bean (도메인은 코드 테이블 캐시에서 조회, 캐시 갱신 시 바로 반영)
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
-        CorsConfiguration configuration = new CorsConfiguration();
-        
-        // DB에서 도메인 값 조회
-        String domain = basicRepository.findByTypeAndName("domain", "도메인")
-            .map(Basic::getCode)
-            .orElse("localhost"); // 기본값: localhost
-        
-        System.out.println("===== CORS 설정 =====");
-        System.out.println("DB에서 조회한 domain: " + domain);
-        
-        // 개발용 + 운영용 도메인 설정
-        configuration.setAllowedOrigins(List.of("http://localhost", "http://127.0.0.1", "http://" + domain, "https://" + domain));
-        
-        System.out.println("허용된 origins: " + configuration.getAllowedOrigins());
-        System.out.println("=====================");
-        
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("*"));
-        configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Authorization", "Set-Cookie"));
-        configuration.setMaxAge(3600L);
-
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", configuration);
-        return source;
+
+        return new DomainCorsConfigurationSource(basicCacheService);
     }
 
     // Security FilterChain
@@ -145,6 +153,8 @@ public class SecurityConfig {
         //=================================== 인가 ===================================//
         http
                 .authorizeHttpRequests(auth -> auth
+                    // 비동기 응답(SSE) 종료 / 오류 디스패치 - 최초 요청에서 이미 인가됨
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                     .requestMatchers("/jwt/refresh").permitAll()
                     .requestMatchers("/approval/**").authenticated()
                     .requestMatchers("/admin/**").hasRole("ADMIN")
@@ -172,10 +182,10 @@ public class SecurityConfig {
 
         //=================================== 커스텀 필터 추가 ===================================//
         http
-                .addFilterBefore(new JWTFilter(), LogoutFilter.class);
+                .addFilterBefore(new JWTFilter(accessTokenCacheService), LogoutFilter.class);
         
         http
-                .addFilterBefore(new LoginFilter(authenticationManager(authenticationConfiguration), loginSuccessHandler, memberRepository, messageUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new LoginFilter(authenticationManager(authenticationConfiguration), loginSuccessHandler, memberCacheService, messageUtil, loginRateLimiter), UsernamePasswordAuthenticationFilter.class);
 
         //=================================== 세션 필터 설정 ===================================//
         http
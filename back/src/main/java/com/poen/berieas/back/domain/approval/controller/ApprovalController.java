@@ -10,68 +10,54 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalRequestDto;
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalResultDto;
 import com.poen.berieas.back.domain.approval.dto.CommentRequestDto;
-import com.poen.berieas.back.domain.approval.dto.MyApprovalResponseDto;
+import com.poen.berieas.back.domain.approval.dto.DashboardResponseDto;
 import com.poen.berieas.back.domain.approval.dto.ProgressListResponseDto;
+import com.poen.berieas.back.domain.approval.dto.ProgressSliceDto;
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
+import com.poen.berieas.back.domain.approval.service.ApprovalBulkService;
 import com.poen.berieas.back.domain.approval.service.ApprovalService;
+import com.poen.berieas.back.domain.approval.service.AttachmentStore;
+import com.poen.berieas.back.domain.approval.service.ProgressListType;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class ApprovalController {
     
     private final ApprovalService approvalService;
+    private final ApprovalBulkService approvalBulkService;
+    private final AttachmentStore attachmentStore;
 
-    // 대시보드(전체)
-    @GetMapping(value = "/approval/total")
-    public ResponseEntity<Integer> totalApprovalCountApi() {
+    // 대시보드 (상태별 건수 + 내가 상신한 문서 + 내가 결재할 문서)
+    @GetMapping(value = "/approval/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DashboardResponseDto> getDashboardApi() {
 
-        int total = approvalService.totalApprovalCount();
-
-        return ResponseEntity.ok(total);
-    }
-
-    // 대시보드(진행중)
-    @GetMapping(value = "/approval/inProgress")
-    public ResponseEntity<Integer> inProgressCountApi() {
-
-        int inProgress = approvalService.inProgressCount();
-
-        return ResponseEntity.ok(inProgress);
-    }
-
-    // 대시보드(완료)
-    @GetMapping(value = "/approval/completed")
-    public ResponseEntity<Integer> completedCountApi() {
-
-        int completed = approvalService.completedCount();
-
-        return ResponseEntity.ok(completed);
-    }
-    
-    // 대시보드(내가 상신한 문서)
-    @GetMapping(value = "/approval/mySubmitted")
-    public ResponseEntity<List<MyApprovalResponseDto>> getMySubmittedApi() {
-        
-        List<MyApprovalResponseDto> mySubmittedDocs = approvalService.getMySubmitted();
-        return ResponseEntity.ok(mySubmittedDocs);
+        DashboardResponseDto dashboard = approvalService.getDashboard();
+        return ResponseEntity.ok(dashboard);
     }
 
-    // 대시보드(내가 결재할 문서)
-    @GetMapping(value = "/approval/mypending")
-    public ResponseEntity<List<MyApprovalResponseDto>> getPendingApprovalsApi() {
+    // 내가 결재할 문서 실시간 알림 (SSE: snapshot = 현재 건수, pending = 추가/제거 변경분)
+    @GetMapping(value = "/approval/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamApi() {
 
-        List<MyApprovalResponseDto> pendingApprovals = approvalService.getPendingApprovals();
-        return ResponseEntity.ok(pendingApprovals);
+        return approvalService.subscribePending();
     }
 
     // 진행목록(전체)
@@ -139,6 +125,24 @@ public class ApprovalController {
         return ResponseEntity.ok(approvals);
     }
 
+    // 진행목록 커서 조회 - 위 목록 URL 에 cursor 파라미터가 있으면 (첫 페이지는 빈 값) 오프셋/count 없이 다음 커서를 반환
+    @GetMapping(value = "/approval/{list:allApprovals|inProgressApprovals|temporarySavedApprovals|returnedApprovals|completedApprovals}",
+            params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProgressSliceDto> getProgressSliceApi(
+        @PathVariable(name = "list") String list,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "15") int size,
+        @RequestParam(name = "count", defaultValue = "false") boolean count,
+        @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(name = "keyword", required = false) String keyword
+    ) {
+
+        ProgressListType type = ProgressListType.fromPath(list).orElseThrow();
+        ProgressSliceDto slice = approvalService.getProgressSlice(type, cursor, size, from, to, keyword, count);
+        return ResponseEntity.ok(slice);
+    }
+
     // 첨언
     @PostMapping(value = "/approval/addcomments/{approvalNo}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<String> addCommentsApi(
@@ -147,17 +151,14 @@ public class ApprovalController {
             @RequestPart(name = "files", required = false) List<MultipartFile> files) {
 
         try {
-            System.out.println("===== 첨언 API 호출 =====");
-            System.out.println("approvalNo: " + approvalNo);
-            System.out.println("comment: " + dto.getComment());
-            System.out.println("files: " + (files != null ? files.size() + "개" : "없음"));
-            
-            approvalService.addComment(approvalNo, dto, files);
-            System.out.println("===== 첨언 저장 성공 =====");
+            log.debug("첨언 요청 approvalNo={}, files={}", approvalNo, files != null ? files.size() : 0);
+
+            // 파일 저장은 트랜잭션 밖에서 먼저 처리 (실패 시 남은 파일은 참조 0 으로 정리 대상)
+            List<StoredFileDto> storedFiles = attachmentStore.storeCommentFiles(files);
+            approvalService.addComment(approvalNo, dto, storedFiles);
             return ResponseEntity.ok("첨언 등록 완료");
         } catch (Exception e) {
-            System.out.println("===== 첨언 저장 실패 =====");
-            e.printStackTrace();
+            log.warn("첨언 저장 실패 approvalNo={}", approvalNo, e);
             return ResponseEntity.internalServerError().body("첨언 실패: " + e.getMessage());
         }
     }
@@ -166,7 +167,7 @@ public class ApprovalController {
     @PostMapping(value = "/approval/editcomment/{approvalNo}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<String> editCommentApi(
             @PathVariable(name = "approvalNo") int approvalNo,
-            @org.springframework.web.bind.annotation.RequestBody CommentRequestDto dto) {
+            @RequestBody CommentRequestDto dto) {
 
         try {
             approvalService.updateComment(approvalNo, dto);
@@ -203,5 +204,12 @@ public class ApprovalController {
         approvalService.doReject(approvalNo);
         return ResponseEntity.ok("반려 완료");
     }
+
+    // 일괄 승인/반려 (문서별 결과, 일부 문서가 실패해도 나머지는 처리)
+    @PostMapping(value = "/approval/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkApprovalResultDto>> bulkApi(@Validated @RequestBody BulkApprovalRequestDto dto) {
+
+        return ResponseEntity.ok(approvalBulkService.process(dto.getApprovalNos(), dto.getAction()));
+    }
     
 }
@@ -1,12 +1,8 @@
 package com.poen.berieas.back.domain.approval.controller;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,14 +12,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.poen.berieas.back.domain.approval.dto.ApprovalRequestDto;
 import com.poen.berieas.back.domain.approval.dto.ApprovalResponseDto;
+import com.poen.berieas.back.domain.approval.dto.AttachmentFileDto;
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
 import com.poen.berieas.back.domain.approval.service.ApprovalDetailService;
+import com.poen.berieas.back.domain.approval.service.AttachmentSender;
+import com.poen.berieas.back.domain.approval.service.AttachmentStore;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -31,6 +32,8 @@ import lombok.RequiredArgsConstructor;
 public class ApprovalDetailController {
 
     private final ApprovalDetailService approvalDetailService;
+    private final AttachmentStore attachmentStore;
+    private final AttachmentSender attachmentSender;
 
     // 기안 등록
     @PostMapping(value = "/approvalDetail/addDraft", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -44,7 +47,9 @@ public class ApprovalDetailController {
             ObjectMapper objectMapper = new ObjectMapper();
             ApprovalRequestDto dto = objectMapper.readValue(approvalDtoStr, ApprovalRequestDto.class);
 
-            approvalDetailService.addDraft(dto, files);
+            // 파일 저장은 트랜잭션 밖에서 먼저 처리 (실패 시 남은 파일은 참조 0 으로 정리 대상)
+            List<StoredFileDto> storedFiles = attachmentStore.storeDraftFiles(files);
+            approvalDetailService.addDraft(dto, storedFiles);
             return ResponseEntity.ok("기안서 등록 성공");
 
         } catch (Exception e) {
@@ -64,7 +69,9 @@ public class ApprovalDetailController {
             ObjectMapper objectMapper = new ObjectMapper();
             ApprovalRequestDto dto = objectMapper.readValue(approvalDtoStr, ApprovalRequestDto.class);
 
-            approvalDetailService.temporaryDraft(dto, files);
+            // 파일 저장은 트랜잭션 밖에서 먼저 처리 (실패 시 남은 파일은 참조 0 으로 정리 대상)
+            List<StoredFileDto> storedFiles = attachmentStore.storeDraftFiles(files);
+            approvalDetailService.temporaryDraft(dto, storedFiles);
             return ResponseEntity.ok("임시저장 성공");
 
         } catch (Exception e) {
@@ -85,23 +92,16 @@ public class ApprovalDetailController {
         }
     }
 
-    // 파일 다운로드
+    // 파일 다운로드 (Range / If-None-Match 지원, 가능하면 sendfile 로 전송)
     @GetMapping("/approvalDetail/file/download/{approvalNo}/{file}")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @PathVariable(name = "approvalNo") int approvalNo,
-            @PathVariable(name = "file") String file) throws IOException {
+            @PathVariable(name = "file") String file,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
-        Resource resource = approvalDetailService.loadFile(approvalNo, file);
-        Path path = resource.getFile().toPath();
-
-        String fileName = path.getFileName().toString();
-        String encodedFileName = UriUtils.encode(fileName, StandardCharsets.UTF_8);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encodedFileName)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(resource);
+        AttachmentFileDto attachment = approvalDetailService.loadFile(approvalNo, file);
+        attachmentSender.send(attachment, request, response);
     }
 
     // 파일 삭제
@@ -0,0 +1,18 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.time.LocalDateTime;
+
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+// 진행목록/대시보드 한 행 (목록에 표시하는 컬럼만 조회, 본문/의견 LOB 제외)
+public record ApprovalListRowDto(
+    int approvalNo,
+    LocalDateTime regDate,
+    String approvalName,
+    String approvalDepartment,
+    ApprovalStatus approvalStatus,
+    String approvalType,
+    String approvalTitle
+) {
+
+}
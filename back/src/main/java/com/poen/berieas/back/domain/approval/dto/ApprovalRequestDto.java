@@ -1,5 +1,7 @@
 package com.poen.berieas.back.domain.approval.dto;
 
+import java.util.List;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,7 +18,9 @@ public class ApprovalRequestDto {
     private String signId3;
     private String signId4;
     private String signId5;
+    private List<String> signMemberIds; // signId1~5 와 같은 순서의 memberId (있으면 이름 대신 memberId 로 결재자 지정, 동명이인 구분)
     private String referenceId;
+    private List<String> referenceMemberIds; // 참조자 memberId (있으면 referenceId 이름 목록 대신 사용)
     
     private String approvalDocument;
 }
@@ -1,6 +1,7 @@
 package com.poen.berieas.back.domain.approval.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -53,4 +54,10 @@ public class ApprovalResponseDto {
     private String referenceAttachFile;
     private String referenceAttachPath;
     private String referenceAttachInfo;
+
+    // signId1~5 와 같은 순서의 결재자 memberId (빈 칸은 null, 동명이인 구분용)
+    private List<String> signMemberIds;
+
+    // referenceId 와 같은 순서의 참조자 memberId
+    private List<String> referenceMemberIds;
 }
@@ -0,0 +1,14 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ApprovalStatusCountDto {
+
+    private ApprovalStatus approvalStatus;
+    private long count;
+}
@@ -0,0 +1,6 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+// 문서 번호 -> 유형/제목 (알림 메일 / 실시간 알림용, 본문 제외)
+public record ApprovalTitleDto(int approvalNo, String approvalType, String approvalTitle) {
+
+}
@@ -0,0 +1,8 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.nio.file.Path;
+
+// 다운로드할 첨부파일 (sha256 은 내용 주소 저장소 파일만, 기존 파일은 null)
+public record AttachmentFileDto(Path path, String fileName, String sha256) {
+    
+}
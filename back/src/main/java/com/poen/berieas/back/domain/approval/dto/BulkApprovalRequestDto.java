@@ -0,0 +1,21 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+// 일괄 승인/반려 요청
+@Getter
+public class BulkApprovalRequestDto {
+
+    public enum Action { APPROVE, REJECT }
+
+    @NotEmpty @Size(max = 200)
+    private List<Integer> approvalNos;
+
+    @NotNull
+    private Action action;
+}
@@ -0,0 +1,5 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+// 일괄 승인/반려 문서별 결과 (실패 시 message = 사유)
+public record BulkApprovalResultDto(int approvalNo, boolean success, String message) {
+}
@@ -0,0 +1,18 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DashboardResponseDto {
+
+    private long total;
+    private long inProgress;
+    private long completed;
+    private List<MyApprovalResponseDto> mySubmitted; // 내가 상신한 문서 (최근 5건)
+    private List<MyApprovalResponseDto> myPending;   // 내가 결재할 문서 (최근 10건)
+    private long pendingCount;                       // 내가 결재할 문서 전체 건수
+}
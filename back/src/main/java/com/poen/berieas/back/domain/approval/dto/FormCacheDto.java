@@ -0,0 +1,10 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.util.List;
+
+// 양식 캐시 항목 (양식 + 결재자 정보 미리 조회)
+// signIds: 양식 지정 결재자 이름 5칸 (빈 칸은 null), approvers: 회원과 매칭된 결재자만
+public record FormCacheDto(int formNo, String formType, String formTitle, String formDocument,
+        List<String> signIds, List<ApprovalSettingResponseDto.ApproverInfo> approvers) {
+    
+}
@@ -0,0 +1,9 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+// 내가 결재할 문서 변경분 (SSE "pending" 이벤트)
+// op = ADDED: approval 을 목록에 추가 / REMOVED: approvalNo 를 목록에서 제거 (건수는 ±1)
+public record PendingDeltaDto(String op, int approvalNo, MyApprovalResponseDto approval) {
+
+    public static final String ADDED = "ADDED";
+    public static final String REMOVED = "REMOVED";
+}
@@ -0,0 +1,6 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+// 구독(재연결) 직후 내가 결재할 문서 건수 (SSE "snapshot" 이벤트)
+public record PendingSnapshotDto(long pendingCount) {
+
+}
@@ -0,0 +1,9 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.util.List;
+
+// 진행목록 커서 조회 결과
+// nextCursor: 다음 요청의 cursor 값 (마지막이면 null), approximateTotal: count=true 일 때만, 캐시된 값이라 최근 변경이 늦게 반영될 수 있음
+public record ProgressSliceDto(List<ProgressListResponseDto> content, String nextCursor, Long approximateTotal) {
+
+}
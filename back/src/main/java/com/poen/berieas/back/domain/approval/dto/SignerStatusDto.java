@@ -0,0 +1,8 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+import java.time.LocalDateTime;
+
+// 목록의 현재 결재자 표시용 결재라인 (의견 LOB 제외)
+public record SignerStatusDto(int approvalNo, String memberName, LocalDateTime signedAt) {
+
+}
@@ -0,0 +1,7 @@
+package com.poen.berieas.back.domain.approval.dto;
+
+// 트랜잭션 전에 저장소에 저장을 마친 첨부파일 정보
+// sha256: 내용 해시(hex, 저장 위치 키), fileName: 원본 파일명(표시/다운로드용)
+public record StoredFileDto(String sha256, String fileName, long size) {
+    
+}
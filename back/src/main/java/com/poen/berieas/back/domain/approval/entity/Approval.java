@@ -12,7 +12,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +22,11 @@ import lombok.Setter;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "approval")
+@Table(name = "approval", indexes = {
+    @Index(name = "idx_approval_id_status_reg_date", columnList = "approval_id, approval_status, reg_date"),
+    @Index(name = "idx_approval_status_reg_date", columnList = "approval_status, reg_date"),
+    @Index(name = "idx_approval_next_id_status_reg_date", columnList = "next_id, approval_status, reg_date")
+})
 @Getter
 @Setter
 @Builder
@@ -52,80 +56,13 @@ public class Approval {
     @Column(name = "approval_position")
     private String approvalPosition;
 
-    @Column(name = "approval_status")
-    private String approvalStatus;
+    // 상태 변경은 ApprovalStateMachine 전이표를 거침
+    @Column(name = "approval_status", columnDefinition = "tinyint")
+    private ApprovalStatus approvalStatus;
 
     @Column(name = "approval_detail_link")
     private String approvalDetailLink;
 
-    @Column(name = "sign_id1")
-    private String signId1;
-
-    @Column(name = "sign_date1")
-    private LocalDateTime signDate1;
-
-    @Lob
-    @Column(name = "sign_remark1")
-    private String signRemark1;
-
-    @Column(name = "sign_etc1")
-    private String signEtc1;
-
-    @Column(name = "sign_id2")
-    private String signId2;
-
-    @Column(name = "sign_date2")
-    private LocalDateTime signDate2;
-
-    @Lob
-    @Column(name = "sign_remark2")
-    private String signRemark2;
-
-    @Column(name = "sign_etc2")
-    private String signEtc2;
-
-    @Column(name = "sign_id3")
-    private String signId3;
-
-    @Column(name = "sign_date3")
-    private LocalDateTime signDate3;
-
-    @Lob
-    @Column(name = "sign_remark3")
-    private String signRemark3;
-
-    @Column(name = "sign_etc3")
-    private String signEtc3;
-
-    @Column(name = "sign_id4")
-    private String signId4;
-
-    @Column(name = "sign_date4")
-    private LocalDateTime signDate4;
-
-    @Lob
-    @Column(name = "sign_remark4")
-    private String signRemark4;
-
-    @Column(name = "sign_etc4")
-    private String signEtc4;
-
-    @Column(name = "sign_id5")
-    private String signId5;
-
-    @Column(name = "sign_date5")
-    private LocalDateTime signDate5;
-
-    @Lob
-    @Column(name = "sign_remark5")
-    private String signRemark5;
-
-    @Column(name = "sign_etc5")
-    private String signEtc5;
-
-    @Column(name = "reference_id")
-    private String referenceId;
-
     @Column(name = "next_id")
     private String nextId;
 
@@ -0,0 +1,18 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+// 결재 문서 상태를 바꾸는 동작 (허용 여부/다음 상태는 ApprovalStateMachine 전이표)
+public enum ApprovalAction {
+
+    // 임시저장 (기안자)
+    SAVE,
+    // 상신 (기안자)
+    SUBMIT,
+    // 승인 - 다음 결재자에게 넘김 (현재 결재자)
+    APPROVE,
+    // 승인 - 마지막 결재자 (현재 결재자)
+    COMPLETE,
+    // 반려 (현재 결재자)
+    REJECT,
+    // 기안 취소 - 결재 전 기안중으로 되돌림 (기안자)
+    CANCEL
+}
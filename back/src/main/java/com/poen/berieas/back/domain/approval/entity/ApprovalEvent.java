@@ -0,0 +1,54 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 결재 흐름 알림 대기열 (상태 변경과 같은 트랜잭션으로 저장, ApprovalDigestDispatcher 가 받는 사람별로 묶어서 메일 발송)
+@Entity
+@Table(name = "approval_event", indexes = {
+    @Index(name = "idx_approval_event_dispatched_recipient", columnList = "dispatched_at, recipient_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "approval_no")
+    private int approvalNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 20)
+    private ApprovalEventType eventType;
+
+    // 받는 사람 memberId
+    @Column(name = "recipient_id")
+    private String recipientId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 알림 메일 등록 시각 (null = 대기)
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,19 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 결재 흐름 알림 종류
+@Getter
+@RequiredArgsConstructor
+public enum ApprovalEventType {
+
+    // 결재 차례가 됨 (받는 사람 = 결재자)
+    SIGN_REQUESTED("결재 요청"),
+    // 마지막 결재자가 승인 (받는 사람 = 기안자)
+    COMPLETED("결재 완료"),
+    // 결재자가 반려 (받는 사람 = 기안자)
+    REJECTED("반려");
+
+    private final String label;
+}
@@ -0,0 +1,39 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 참조자 (문서별 참조자 1행)
+@Entity
+@IdClass(ApprovalReferenceId.class)
+@Table(name = "approval_reference", indexes = {
+    @Index(name = "idx_approval_reference_member_approval", columnList = "member_id, approval_no")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalReference {
+
+    @Id
+    @Column(name = "approval_no")
+    private int approvalNo;
+
+    @Id
+    @Column(name = "member_id")
+    private String memberId;
+
+    // 표시용 이름 (참조자 지정 시점 기준)
+    @Column(name = "member_name")
+    private String memberName;
+}
@@ -0,0 +1,17 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// ApprovalReference 복합키 (approval_no, member_id)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ApprovalReferenceId implements Serializable {
+
+    private int approvalNo;
+    private String memberId;
+}
@@ -0,0 +1,52 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 결재라인 (문서별 결재자 1행, seq = 결재 순서 1~5)
+@Entity
+@IdClass(ApprovalSignerId.class)
+@Table(name = "approval_signer", indexes = {
+    @Index(name = "idx_approval_signer_member_approval", columnList = "member_id, approval_no")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalSigner {
+
+    @Id
+    @Column(name = "approval_no")
+    private int approvalNo;
+
+    @Id
+    @Column(name = "seq")
+    private int seq;
+
+    @Column(name = "member_id")
+    private String memberId;
+
+    // 표시용 이름 (결재선 지정 시점 기준)
+    @Column(name = "member_name")
+    private String memberName;
+
+    @Column(name = "signed_at")
+    private LocalDateTime signedAt;
+
+    @Lob
+    @Column(name = "remark")
+    private String remark;
+}
@@ -0,0 +1,17 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// ApprovalSigner 복합키 (approval_no, seq)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ApprovalSignerId implements Serializable {
+
+    private int approvalNo;
+    private int seq;
+}
@@ -0,0 +1,40 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 결재 문서 상태 (DB 에는 code 를 tinyint 로 저장, 화면에는 label 표시)
+@Getter
+@RequiredArgsConstructor
+public enum ApprovalStatus {
+
+    DRAFT(0, "기안중"),
+    IN_PROGRESS(1, "진행중"),
+    COMPLETED(2, "완료"),
+    REJECTED(3, "반려");
+
+    private static final ApprovalStatus[] BY_CODE = values();
+
+    private final int code;
+    private final String label;
+
+    public static ApprovalStatus fromCode(int code) {
+
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+            throw new IllegalArgumentException("unknown approval status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    // 진행목록 키워드 검색 - 라벨에 키워드가 포함된 상태
+    public static List<ApprovalStatus> matchingLabel(String keyword) {
+
+        if (keyword == null || keyword.isBlank()) return List.of();
+
+        String lower = keyword.toLowerCase();
+        return Arrays.stream(BY_CODE).filter(status -> status.label.contains(lower)).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// ApprovalStatus <-> tinyint (ordinal 이 아닌 고정 code 로 저장 → enum 순서를 바꿔도 데이터 유지)
+@Converter(autoApply = true)
+public class ApprovalStatusConverter implements AttributeConverter<ApprovalStatus, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(ApprovalStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public ApprovalStatus convertToEntityAttribute(Integer code) {
+        return code != null ? ApprovalStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.poen.berieas.back.domain.approval.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 첨부파일 내용 (SHA-256 기준 1건), 같은 내용은 한 번만 저장하고 참조 수로 관리
+@Entity
+@Table(name = "attachment_blob", indexes = {
+    @Index(name = "idx_attachment_blob_ref_count_update_date", columnList = "ref_count, update_date")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentBlob {
+
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    @Column(name = "size")
+    private long size;
+
+    // 이 내용을 첨부로 가진 슬롯 수 (0이 되면 유예 기간 후 정리)
+    @Column(name = "ref_count")
+    private int refCount;
+
+    @Column(name = "reg_date")
+    private LocalDateTime regDate;
+
+    // 마지막 업로드/참조 변경 시각 (정리 유예 기준)
+    @Column(name = "update_date")
+    private LocalDateTime updateDate;
+}
@@ -1,12 +1,33 @@
 package com.poen.berieas.back.domain.approval.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.poen.berieas.back.domain.approval.dto.ApprovalTitleDto;
 import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
 
 public interface ApprovalDetailRepository extends JpaRepository<ApprovalDetail, Integer>{
     
     Optional<ApprovalDetail> findByApprovalNo(int approvalNo);
+
+    // 문서 제목 일괄 조회 (IN 쿼리 1회, 본문 제외)
+    @Query("""
+            select new com.poen.berieas.back.domain.approval.dto.ApprovalTitleDto(d.approvalNo, d.approvalType, d.approvalTitle)
+            from ApprovalDetail d
+            where d.approvalNo in :approvalNos
+            """)
+    List<ApprovalTitleDto> findTitlesByApprovalNoIn(@Param("approvalNos") Collection<Integer> approvalNos);
+
+    // 문서 유형/제목 단건 조회 (본문 제외)
+    @Query("""
+            select new com.poen.berieas.back.domain.approval.dto.ApprovalTitleDto(d.approvalNo, d.approvalType, d.approvalTitle)
+            from ApprovalDetail d
+            where d.approvalNo = :approvalNo
+            """)
+    Optional<ApprovalTitleDto> findTitleByApprovalNo(@Param("approvalNo") int approvalNo);
 }
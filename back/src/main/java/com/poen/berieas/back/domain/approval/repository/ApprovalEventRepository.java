@@ -0,0 +1,32 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+
+public interface ApprovalEventRepository extends JpaRepository<ApprovalEvent, Long> {
+
+    // 대기 중인 알림 (받는 사람별로 모이도록 정렬)
+    @Query("""
+            select e from ApprovalEvent e
+            where e.dispatchedAt is null
+            order by e.recipientId, e.id
+            """)
+    List<ApprovalEvent> findPending(Limit limit);
+
+    // 발송 처리 - 아직 대기 중인 건만 (다른 인스턴스가 먼저 처리했으면 건수가 모자람)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ApprovalEvent e set e.dispatchedAt = :now
+            where e.id in :ids and e.dispatchedAt is null
+            """)
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
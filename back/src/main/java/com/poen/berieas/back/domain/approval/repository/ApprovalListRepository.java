@@ -0,0 +1,69 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.poen.berieas.back.domain.approval.dto.ApprovalListRowDto;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+// 진행목록 조회 - 범위(ApprovalListScope) + 공통 필터를 조합해서 오프셋 페이지 / 커서 / 건수 쿼리를 만듦
+// (범위별로 쿼리를 따로 두지 않아 세 조회의 조건이 어긋나지 않음)
+public interface ApprovalListRepository {
+
+    // 진행목록/대시보드 공통 select - 목록에 표시하는 컬럼만 (문서 본문/결재 의견 같은 LOB 은 목록에서 읽지 않음)
+    String LIST_SELECT = """
+            select new com.poen.berieas.back.domain.approval.dto.ApprovalListRowDto(
+                a.approvalNo, a.regDate, a.approvalName, a.approvalDepartment, a.approvalStatus, d.approvalType, d.approvalTitle)
+            from Approval a
+            left join ApprovalDetail d on d.approvalNo = a.approvalNo
+            """;
+
+    // 진행목록 count (키워드 검색용 상세 조인 포함)
+    String LIST_COUNT = """
+            select count(a) from Approval a
+            left join ApprovalDetail d on d.approvalNo = a.approvalNo
+            """;
+
+    // 진행목록 공통 필터 (기간: from 이상 to 미만, 키워드: 제목/유형/기안자/부서/결재자, 상태는 라벨이 일치하는 statuses)
+    String LIST_FILTER = """
+            and ( :from is null or a.regDate >= :from )
+            and ( :to is null or a.regDate < :to )
+            and ( :keyword is null
+               or lower(d.approvalTitle) like :keyword escape '\\'
+               or lower(d.approvalType) like :keyword escape '\\'
+               or lower(a.approvalName) like :keyword escape '\\'
+               or lower(a.approvalDepartment) like :keyword escape '\\'
+               or exists ( select 1 from ApprovalSigner ks
+                           where ks.approvalNo = a.approvalNo
+                             and lower(ks.memberName) like :keyword escape '\\' )
+               or a.approvalStatus in :statuses
+            )
+            """;
+
+    // 오프셋 페이지 정렬
+    String LIST_ORDER = """
+            order by a.regDate desc
+            """;
+
+    // 커서(keyset) 조건 - (regDate, approvalNo) 가 커서보다 앞선 행만, 인덱스 역순 스캔 후 limit 에서 멈춤
+    String KEYSET_AFTER = """
+            and ( a.regDate < :cursorDate or ( a.regDate = :cursorDate and a.approvalNo < :cursorNo ) )
+            order by a.regDate desc, a.approvalNo desc
+            """;
+
+    // 오프셋 페이지 (count 는 마지막 페이지 등 건수를 알 수 없을 때만)
+    Page<ApprovalListRowDto> findProgressList(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses, Pageable pageable);
+
+    // 커서 다음 행부터 limit 건
+    List<ApprovalListRowDto> findProgressListAfter(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses, LocalDateTime cursorDate, int cursorNo, Limit limit);
+
+    long countProgressList(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses);
+}
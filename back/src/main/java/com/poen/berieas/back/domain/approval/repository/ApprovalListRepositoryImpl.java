@@ -0,0 +1,73 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.poen.berieas.back.domain.approval.dto.ApprovalListRowDto;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class ApprovalListRepositoryImpl implements ApprovalListRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<ApprovalListRowDto> findProgressList(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses, Pageable pageable) {
+
+        TypedQuery<ApprovalListRowDto> query = entityManager.createQuery(
+            LIST_SELECT + scope.getWhere() + LIST_FILTER + LIST_ORDER, ApprovalListRowDto.class);
+        bindFilter(query, memberId, from, to, keyword, statuses);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+            () -> countProgressList(scope, memberId, from, to, keyword, statuses));
+    }
+
+    @Override
+    public List<ApprovalListRowDto> findProgressListAfter(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses, LocalDateTime cursorDate, int cursorNo, Limit limit) {
+
+        TypedQuery<ApprovalListRowDto> query = entityManager.createQuery(
+            LIST_SELECT + scope.getWhere() + LIST_FILTER + KEYSET_AFTER, ApprovalListRowDto.class);
+        bindFilter(query, memberId, from, to, keyword, statuses);
+        query.setParameter("cursorDate", cursorDate);
+        query.setParameter("cursorNo", cursorNo);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countProgressList(ApprovalListScope scope, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses) {
+
+        TypedQuery<Long> query = entityManager.createQuery(LIST_COUNT + scope.getWhere() + LIST_FILTER, Long.class);
+        bindFilter(query, memberId, from, to, keyword, statuses);
+        return query.getSingleResult();
+    }
+
+    private void bindFilter(TypedQuery<?> query, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, Collection<ApprovalStatus> statuses) {
+
+        query.setParameter("memberId", memberId);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        query.setParameter("keyword", keyword);
+        query.setParameter("statuses", statuses);
+    }
+}
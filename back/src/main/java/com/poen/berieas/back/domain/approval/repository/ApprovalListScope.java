@@ -0,0 +1,53 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+// 진행목록 범위 조건 - 오프셋 페이지 / 커서 / 건수 조회가 모두 같은 조건을 씀 (ApprovalListRepository)
+public enum ApprovalListScope {
+
+    // 전체 - 내가 기안한 문서 + 결재/참조 문서 (기안중 문서는 작성자 본인 것만)
+    OVERALL("""
+            where (
+                  ( a.approvalId = :memberId )
+               or ( a.approvalStatus <> com.poen.berieas.back.domain.approval.entity.ApprovalStatus.DRAFT and (
+                        a.approvalNo in ( select s.approvalNo from ApprovalSigner s where s.memberId = :memberId )
+                     or a.approvalNo in ( select r.approvalNo from ApprovalReference r where r.memberId = :memberId )
+                  ))
+            )
+            """),
+
+    // 진행중 - 내가 기안한 문서 + 결재할 문서
+    IN_PROGRESS("""
+            where a.approvalStatus = com.poen.berieas.back.domain.approval.entity.ApprovalStatus.IN_PROGRESS
+            and (
+                  ( a.approvalId = :memberId )
+               or ( a.approvalNo in ( select s.approvalNo from ApprovalSigner s where s.memberId = :memberId )
+                    or a.approvalNo in ( select r.approvalNo from ApprovalReference r where r.memberId = :memberId )
+                  )
+            )
+            """),
+
+    // 기안중
+    TEMPORARY_SAVED("""
+            where a.approvalStatus = com.poen.berieas.back.domain.approval.entity.ApprovalStatus.DRAFT
+            and a.regId = :memberId
+            """),
+
+    // 반려 - 내가 기안한 반려 문서만
+    RETURNED("""
+            where a.approvalId = :memberId and a.approvalStatus = com.poen.berieas.back.domain.approval.entity.ApprovalStatus.REJECTED
+            """),
+
+    // 완료 - 내가 기안한 완료 문서만
+    COMPLETED("""
+            where a.approvalId = :memberId and a.approvalStatus = com.poen.berieas.back.domain.approval.entity.ApprovalStatus.COMPLETED
+            """);
+
+    private final String where;
+
+    ApprovalListScope(String where) {
+        this.where = where;
+    }
+
+    public String getWhere() {
+        return where;
+    }
+}
@@ -0,0 +1,21 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.poen.berieas.back.domain.approval.entity.ApprovalReference;
+import com.poen.berieas.back.domain.approval.entity.ApprovalReferenceId;
+
+public interface ApprovalReferenceRepository extends JpaRepository<ApprovalReference, ApprovalReferenceId> {
+
+    List<ApprovalReference> findByApprovalNo(int approvalNo);
+
+    Optional<ApprovalReference> findByApprovalNoAndMemberId(int approvalNo, String memberId);
+
+    // 참조자 여부
+    boolean existsByApprovalNoAndMemberId(int approvalNo, String memberId);
+
+    void deleteByApprovalNo(int approvalNo);
+}
@@ -1,109 +1,85 @@
 package com.poen.berieas.back.domain.approval.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.poen.berieas.back.domain.approval.dto.ApprovalListRowDto;
+import com.poen.berieas.back.domain.approval.dto.ApprovalStatusCountDto;
 import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
 
-public interface ApprovalRepository extends JpaRepository<Approval, Integer>{
+import jakarta.persistence.QueryHint;
 
-    // 대시보드(전체)
-    @Query("select count(a) from Approval a where a.approvalId = :approvalId")
-    int totalCount(@Param("approvalId") String approvalId);
-    
-    // 대시보드(진행중)
-    @Query("select count(a) from Approval a where a.approvalId = :approvalId and a.approvalStatus = '진행중'")
-    int inProressCount(@Param("approvalId") String approvalId);
+public interface ApprovalRepository extends JpaRepository<Approval, Integer>, ApprovalListRepository {
 
-    // 대시보드(완료)
-    @Query("select count(a) from Approval a where a.approvalId = :approvalId and a.approvalStatus = '완료'")
-    int completedCount(@Param("approvalId") String approvalId);
+    // 대시보드(상태별 건수) - 전체/진행중/완료를 한 번에 집계
+    @Query("""
+            select new com.poen.berieas.back.domain.approval.dto.ApprovalStatusCountDto(a.approvalStatus, count(a))
+            from Approval a
+            where a.approvalId = :approvalId
+            group by a.approvalStatus
+            """)
+    List<ApprovalStatusCountDto> countByStatus(@Param("approvalId") String approvalId);
 
     // 대시보드(내가 상신한 문서)
-    List<Approval> findTop5ByApprovalIdOrderByRegDateDesc(@Param("approvalId") String approvalId);
-
-    // 대시보드(내가 결재할 문서)
-    @Query("select a from Approval a " +
-            "where a.nextId = :memberId and a.approvalStatus = '진행중' " +
-            "order by a.regDate desc")
-    List<Approval> findPendingApprovals(@Param("memberId") String memberId);
-
-    // 진행목록(전체)
-@Query("""
-select a from Approval a
-where
-      ( a.approvalId = :memberId )   
-   or ( a.approvalStatus <> '기안중' and (   
-            a.nextId = :memberName
-         or a.signId1 = :memberName
-         or a.signId2 = :memberName 
-         or a.signId3 = :memberName
-         or a.signId4 = :memberName
-         or a.signId5 = :memberName
-         or a.referenceId like concat('%', :memberName, '%')
-      ))
-order by a.regDate desc
-""")
-Page<Approval> findAllForOverallList(
-    @Param("memberId") String memberId,
-    @Param("memberName") String memberName,
-    Pageable pageable
-);
-
-    // 진행목록(진행중) - 내가 기안한 문서 + 결재할 문서
-    @Query("""
-            select a from Approval a
-            where a.approvalStatus = '진행중'
-            and (
-                  ( a.approvalId = :memberId )   
-               or ( a.nextId = :memberName
-                    or a.signId1 = :memberName
-                    or a.signId2 = :memberName 
-                    or a.signId3 = :memberName
-                    or a.signId4 = :memberName
-                    or a.signId5 = :memberName
-                    or a.referenceId like concat('%', :memberName, '%')
-                  )
-            )
+    @Query(LIST_SELECT + """
+            where a.approvalId = :approvalId
             order by a.regDate desc
             """)
-    Page<Approval> findInprogressApprovals(
-        @Param("memberId") String memberId,
-        @Param("memberName") String memberName,
-        Pageable pageable
-    );
+    List<ApprovalListRowDto> findRecentSubmittedWithDetail(@Param("approvalId") String approvalId, Limit limit);
 
-    // 진행목록(기안중)
-//     @Query("select a from Approval a where a.approvalId = :memberId and a.approvalStartDate is null")
-//     Page<Approval> findTemporarySavedApprovals(@Param("memberId") String memberId, Pageable pageable);
-    @Query("""
-            select a from Approval a
-            where a.approvalStatus = '기안중'
-            and a.regId = :memberId
+    // 대시보드(내가 결재할 문서) - nextId = 현재 결재자 memberId
+    @Query(LIST_SELECT + """
+            where a.nextId = :nextId and a.approvalStatus = com.poen.berieas.back.domain.approval.entity.ApprovalStatus.IN_PROGRESS
             order by a.regDate desc
             """)
-    Page<Approval> findTemporarySavedApprovals(@Param("memberId") String memberId, Pageable pageable);
+    List<ApprovalListRowDto> findPendingWithDetail(@Param("nextId") String nextId, Limit limit);
 
-    // 진행목록(반려) - 내가 기안한 반려 문서만
-    @Query("select a from Approval a where a.approvalId = :memberId and a.approvalStatus = '반려' order by a.regDate desc")
-    Page<Approval> findReturnedApprovals(
-      @Param("memberId") String memberId,
-      @Param("memberName") String memberName,
-      Pageable pageable
-    );
+    Optional<Approval> findByApprovalNo(int approvalNo);
 
-    // 진행목록(완료) - 내가 기안한 완료 문서만
-    @Query("select a from Approval a where a.approvalId = :memberId and a.approvalStatus = '완료' order by a.regDate desc")
-    Page<Approval> findCompletedApprovals(@Param("memberId") String memberId, @Param("memberName") String memberName, Pageable pageable);
+    // 일괄 승인/반려 대상 (읽기 전용 - 상태 변경은 JDBC 배치로 하므로 변경 감지 제외)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Approval> findByApprovalNoIn(Collection<Integer> approvalNos);
 
-    Optional<Approval> findByApprovalNo(int approvalNo);
+    // 내가 결재할 문서 건수 (실시간 알림 구독 시)
+    long countByNextIdAndApprovalStatus(String nextId, ApprovalStatus approvalStatus);
+
+    Optional<Approval> findByApprovalIdAndApprovalStatus(String approvalId, ApprovalStatus approvalStatus);
+
+    // 상태 전이 저장 - 조회 시점의 상태/결재자가 그대로일 때만 변경 (동시 결재/취소 중 한 건만 성공, 0 이면 충돌)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Approval a
+            set a.approvalStatus = :to, a.nextId = :nextId, a.updateId = :updateId, a.updateDate = :now
+            where a.approvalNo = :approvalNo and a.approvalStatus = :from
+              and ( a.nextId = :expectedNextId or ( a.nextId is null and :expectedNextId is null ) )
+            """)
+    int compareAndSetStatus(
+        @Param("approvalNo") int approvalNo,
+        @Param("from") ApprovalStatus from,
+        @Param("expectedNextId") String expectedNextId,
+        @Param("to") ApprovalStatus to,
+        @Param("nextId") String nextId,
+        @Param("updateId") String updateId,
+        @Param("now") LocalDateTime now
+    );
 
-    Optional<Approval> findByApprovalIdAndApprovalStatus(String approvalId, String approvalStatus);
+    // compareAndSetStatus 의 JDBC 배치용 SQL (일괄 승인/반려) - 조건/변경 컬럼은 위 쿼리와 같게 유지
+    // 파라미터: to, nextId, updateId, now, approvalNo, from, expectedNextId (결재중 문서만 대상이라 expectedNextId 는 항상 있음)
+    String COMPARE_AND_SET_STATUS_SQL = """
+            update approval
+            set approval_status = ?, next_id = ?, update_id = ?, update_date = ?
+            where approval_no = ? and approval_status = ? and next_id = ?
+            """;
     
 }
@@ -0,0 +1,50 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.poen.berieas.back.domain.approval.dto.SignerStatusDto;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSignerId;
+
+public interface ApprovalSignerRepository extends JpaRepository<ApprovalSigner, ApprovalSignerId> {
+
+    // 문서의 결재라인 (결재 순서대로)
+    List<ApprovalSigner> findByApprovalNoOrderBySeqAsc(int approvalNo);
+
+    // 목록 페이지 단위 일괄 조회 (IN 쿼리 1회)
+    List<ApprovalSigner> findByApprovalNoInOrderByApprovalNoAscSeqAsc(Collection<Integer> approvalNos);
+
+    // 목록/대시보드 현재 결재자 표시용 (이름/처리 시각만, 의견 LOB 제외)
+    @Query("""
+            select new com.poen.berieas.back.domain.approval.dto.SignerStatusDto(s.approvalNo, s.memberName, s.signedAt)
+            from ApprovalSigner s
+            where s.approvalNo in :approvalNos
+            order by s.approvalNo asc, s.seq asc
+            """)
+    List<SignerStatusDto> findStatusByApprovalNoIn(@Param("approvalNos") Collection<Integer> approvalNos);
+
+    void deleteByApprovalNo(int approvalNo);
+
+    // 결재 처리 시각 기록 (아직 처리하지 않은 순번만)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update ApprovalSigner s
+            set s.signedAt = :now
+            where s.approvalNo = :approvalNo and s.seq = :seq and s.signedAt is null
+            """)
+    int markSigned(@Param("approvalNo") int approvalNo, @Param("seq") int seq, @Param("now") LocalDateTime now);
+
+    // markSigned 의 JDBC 배치용 SQL (일괄 승인/반려) - 파라미터: now, approvalNo, seq
+    String MARK_SIGNED_SQL = """
+            update approval_signer
+            set signed_at = ?
+            where approval_no = ? and seq = ? and signed_at is null
+            """;
+}
@@ -0,0 +1,42 @@
+package com.poen.berieas.back.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.approval.entity.AttachmentBlob;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    // 업로드 시각 갱신 (업로드 직후 ~ 문서 저장 전까지 정리 대상에서 제외)
+    @Transactional
+    @Modifying
+    @Query("update AttachmentBlob b set b.updateDate = :now where b.sha256 = :sha256")
+    int touch(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 참조 +1 (문서 저장 트랜잭션 안에서 호출)
+    @Modifying
+    @Query("update AttachmentBlob b set b.refCount = b.refCount + 1, b.updateDate = :now where b.sha256 = :sha256")
+    int acquire(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 참조 -1 (문서 저장 트랜잭션 안에서 호출)
+    @Modifying
+    @Query("update AttachmentBlob b set b.refCount = b.refCount - 1, b.updateDate = :now where b.sha256 = :sha256 and b.refCount > 0")
+    int release(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 정리 대상 (참조 0 + 유예 기간 경과)
+    @Query("select b.sha256 from AttachmentBlob b where b.refCount = 0 and b.updateDate < :cutoff")
+    List<String> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // 조건을 다시 확인하면서 삭제 (조회 이후 다시 참조된 경우 0건)
+    @Transactional
+    @Modifying
+    @Query("delete from AttachmentBlob b where b.sha256 = :sha256 and b.refCount = 0 and b.updateDate < :cutoff")
+    int deleteUnreferenced(@Param("sha256") String sha256, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,135 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalRequestDto;
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalResultDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
+import com.poen.berieas.back.util.MessageUtil;
+
+import lombok.RequiredArgsConstructor;
+
+// 결재할 문서 일괄 승인/반려
+// - 대상 문서/결재라인은 IN 조회 1회씩, 전이 검증은 문서별 (단건 승인/반려와 같은 ApprovalStateMachine.planSign)
+// - 상태 변경은 리포지토리의 조건부 UPDATE 를 JDBC 배치로 전송 → 조건이 맞지 않은 문서(동시 처리)만 실패
+// - 한 문서의 실패(권한/상태/충돌)는 나머지 문서 처리에 영향 없음
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApprovalBulkService {
+
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalSignerRepository approvalSignerRepository;
+    private final ApprovalStateMachine approvalStateMachine;
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageUtil messageUtil;
+
+    @Value("${approval.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Transactional
+    public List<BulkApprovalResultDto> process(List<Integer> approvalNos, BulkApprovalRequestDto.Action action) {
+
+        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
+        List<Integer> targets = approvalNos.stream().distinct().toList();
+
+        Map<Integer, Approval> approvals = approvalRepository.findByApprovalNoIn(targets).stream()
+            .collect(Collectors.toMap(Approval::getApprovalNo, Function.identity()));
+        Map<Integer, List<ApprovalSigner>> signers = approvalSignerRepository
+            .findByApprovalNoInOrderByApprovalNoAscSeqAsc(targets).stream()
+            .collect(Collectors.groupingBy(ApprovalSigner::getApprovalNo));
+
+        // 문서별 검증 - 실패는 사유만 기록하고 계속
+        Map<Integer, String> failures = new HashMap<>();
+        ApprovalAction decision = action == BulkApprovalRequestDto.Action.REJECT ? ApprovalAction.REJECT : ApprovalAction.APPROVE;
+        List<ApprovalSignPlan> planned = new ArrayList<>();
+        for (Integer approvalNo : targets) {
+            try {
+                Approval approval = approvals.get(approvalNo);
+                if (approval == null) {
+                    throw new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found"));
+                }
+                planned.add(approvalStateMachine.planSign(approval, signers.getOrDefault(approvalNo, List.of()), decision, memberId));
+            } catch (ApprovalTransitionException e) {
+                failures.put(approvalNo, messageUtil.getMessage(e.getMessageKey()));
+            } catch (IllegalArgumentException e) {
+                failures.put(approvalNo, e.getMessage());
+            }
+        }
+
+        List<ApprovalSignPlan> applied = apply(planned, failures);
+        applied.forEach(item -> approvalStateMachine.fire(item.transition()));
+
+        return targets.stream()
+            .map(approvalNo -> failures.containsKey(approvalNo)
+                ? new BulkApprovalResultDto(approvalNo, false, failures.get(approvalNo))
+                : new BulkApprovalResultDto(approvalNo, true, null))
+            .toList();
+    }
+
+    // 조건부 UPDATE 배치 → 반영된 문서만 결재 시각 기록
+    private List<ApprovalSignPlan> apply(List<ApprovalSignPlan> planned, Map<Integer, String> failures) {
+
+        if (planned.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        int[][] counts = jdbcTemplate.batchUpdate(ApprovalRepository.COMPARE_AND_SET_STATUS_SQL, planned, batchSize, (ps, item) -> {
+            ApprovalTransition transition = item.transition();
+            ps.setInt(1, transition.to().getCode());
+            ps.setString(2, item.nextId());
+            ps.setString(3, transition.actorId());
+            ps.setTimestamp(4, timestamp);
+            ps.setInt(5, transition.approval().getApprovalNo());
+            ps.setInt(6, transition.from().getCode());
+            ps.setString(7, transition.previousNextId());
+        });
+
+        // 0 건 = 조회 이후 다른 요청이 먼저 처리 (드라이버가 건수를 주지 않으면 SUCCESS_NO_INFO → 반영으로 봄)
+        List<ApprovalSignPlan> applied = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                ApprovalSignPlan item = planned.get(index++);
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied.add(item);
+                } else {
+                    failures.put(item.transition().approval().getApprovalNo(), messageUtil.getMessage("error.approval.conflict"));
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(ApprovalSignerRepository.MARK_SIGNED_SQL, applied, batchSize, (ps, item) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setInt(2, item.signer().getApprovalNo());
+            ps.setInt(3, item.signer().getSeq());
+        });
+
+        // 훅(알림/실시간 전송)에서 쓰도록 메모리의 문서도 맞춤 (읽기 전용으로 조회해서 변경 감지 대상 아님)
+        applied.forEach(item -> {
+            Approval approval = item.transition().approval();
+            approval.setApprovalStatus(item.transition().to());
+            approval.setNextId(item.nextId());
+        });
+        return applied;
+    }
+}
@@ -5,26 +5,40 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.StringUtils;
 
 import com.poen.berieas.back.domain.approval.dto.ApprovalRequestDto;
 import com.poen.berieas.back.domain.approval.dto.ApprovalResponseDto;
+import com.poen.berieas.back.domain.approval.dto.AttachmentFileDto;
+import com.poen.berieas.back.domain.approval.dto.FormCacheDto;
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
 import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
 import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
-import com.poen.berieas.back.domain.approval.entity.ApprovalSetting;
+import com.poen.berieas.back.domain.approval.entity.ApprovalReference;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
 import com.poen.berieas.back.domain.approval.repository.ApprovalDetailRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalReferenceRepository;
 import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
-import com.poen.berieas.back.domain.approval.repository.ApprovalSettingRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
 import com.poen.berieas.back.domain.member.entity.Member;
 import com.poen.berieas.back.domain.member.repository.MemberRepository;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
 import com.poen.berieas.back.util.MessageUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -35,28 +49,28 @@ import lombok.RequiredArgsConstructor;
 public class ApprovalDetailService {
     
     private final ApprovalDetailRepository approvalDetailRepository;
-    private final ApprovalSettingRepository approvalSettingRepository;
+    private final FormCacheService formCacheService;
+    private final AttachmentStore attachmentStore;
+    private final ApprovalStateMachine approvalStateMachine;
     private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
     private final ApprovalRepository approvalRepository;
+    private final ApprovalSignerRepository approvalSignerRepository;
+    private final ApprovalReferenceRepository approvalReferenceRepository;
     private final MessageUtil messageUtil;
 
-    // 파일 저장
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    // 파일 임시 저장 
-    @Value("${file.upload-temp-dir}")
-    private String tempDir;
+    // 결재라인 최대 인원
+    private static final int MAX_SIGNERS = 5;
 
     // 기안서 등록
     @Transactional
-    public void addDraft(ApprovalRequestDto dto, List<MultipartFile> files) {
+    public void addDraft(ApprovalRequestDto dto, List<StoredFileDto> files) {
 
-        ApprovalSetting form = approvalSettingRepository.findByFormNo(dto.getFormNo())
+        FormCacheDto form = formCacheService.getForm(dto.getFormNo())
             .orElseThrow(() ->  new IllegalArgumentException(messageUtil.getMessage("error.approval.form.not.found")));
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
+        MemberCacheDto member = memberCacheService.getMember(memberId)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.exists")));
 
         Approval approval;
@@ -69,46 +83,43 @@ public class ApprovalDetailService {
             // 새로 생성
             approval = new Approval();
             approval.setApprovalId(memberId);
-            approval.setApprovalName(member.getMemberName());
-            approval.setApprovalDepartment(member.getMemberDepartment());
-            approval.setApprovalPosition(member.getMemberPosition());
+            approval.setApprovalName(member.memberName());
+            approval.setApprovalDepartment(member.memberDepartment());
+            approval.setApprovalPosition(member.memberPosition());
             approval.setRegId(memberId);
         }
 
-        // 상태 및 필드 업데이트
+        // 상태 및 필드 업데이트 (신규/기안중 → 진행중)
+        ApprovalTransition transition = approvalStateMachine.plan(approval, ApprovalAction.SUBMIT, memberId);
         approval.setApprovalStartDate(LocalDateTime.now());
-        approval.setApprovalStatus("진행중");
+        approval.setApprovalStatus(transition.to());
         
         // 양식에 결재자가 지정되어 있으면 양식의 결재자 사용, 없으면 dto의 결재자 사용
-        String signId1 = (form.getFormSignId1() != null && !form.getFormSignId1().isBlank()) 
-            ? form.getFormSignId1() : dto.getSignId1();
-        String signId2 = (form.getFormSignId2() != null && !form.getFormSignId2().isBlank()) 
-            ? form.getFormSignId2() : dto.getSignId2();
-        String signId3 = (form.getFormSignId3() != null && !form.getFormSignId3().isBlank()) 
-            ? form.getFormSignId3() : dto.getSignId3();
-        String signId4 = (form.getFormSignId4() != null && !form.getFormSignId4().isBlank()) 
-            ? form.getFormSignId4() : dto.getSignId4();
-        String signId5 = (form.getFormSignId5() != null && !form.getFormSignId5().isBlank()) 
-            ? form.getFormSignId5() : dto.getSignId5();
-        
-        approval.setSignId1(signId1);
-        approval.setSignId2(signId2);
-        approval.setSignId3(signId3);
-        approval.setSignId4(signId4);
-        approval.setSignId5(signId5);
-        approval.setReferenceId(dto.getReferenceId());
-        approval.setNextId(signId1);
+        String[] signIds = {
+            pickSigner(form.signIds().get(0), dto.getSignId1()),
+            pickSigner(form.signIds().get(1), dto.getSignId2()),
+            pickSigner(form.signIds().get(2), dto.getSignId3()),
+            pickSigner(form.signIds().get(3), dto.getSignId4()),
+            pickSigner(form.signIds().get(4), dto.getSignId5())
+        };
+        String[] signMemberIds = pickSignerIds(form, dto.getSignMemberIds());
+
         approval.setUpdateId(memberId);
 
         approvalRepository.save(approval);
 
+        // 첫 번째 결재자부터 결재 (nextId = 결재자 memberId)
+        List<ApprovalSigner> signers = saveSigners(approval.getApprovalNo(), signIds, signMemberIds);
+        approval.setNextId(signers.isEmpty() ? null : signers.get(0).getMemberId());
+        saveReferences(approval.getApprovalNo(), dto.getReferenceId(), dto.getReferenceMemberIds());
+
         // ApprovalDetail 가져오기 (없으면 생성)
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approval.getApprovalNo())
             .orElseGet(() -> {
                 ApprovalDetail newDetail = new ApprovalDetail();
                 newDetail.setApprovalNo(approval.getApprovalNo());
                 newDetail.setFormNo(dto.getFormNo());
-                newDetail.setApprovalType(form.getFormType());
+                newDetail.setApprovalType(form.formType());
                 newDetail.setRegId(memberId);
                 return newDetail;
             });
@@ -117,66 +128,25 @@ public class ApprovalDetailService {
         detail.setApprovalDocument(dto.getApprovalDocument());
         detail.setUpdateId(memberId);
 
-        // 파일 처리 (최대 5개)
-        if (files != null) {
-
-            for (int i = 0; i < files.size() && i < 5; i++) {
-                MultipartFile file = files.get(i);
-                if (file.isEmpty()) continue;
-
-                try {
-                    // 저장할 경로
-                    String savedFileName = file.getOriginalFilename();
-                    Path savePath = Paths.get(uploadDir, savedFileName);
-
-                    Files.createDirectories(savePath.getParent());
-                    file.transferTo(savePath.toFile());
-
-                    switch (i) {
-                        case 0 -> {
-                            detail.setApprovalAttachPath1(uploadDir);
-                            detail.setApprovalAttachFile1(savedFileName);
-                            detail.setApprovalAttachInfo1("기안");
-                        }
-                        case 1 -> {
-                            detail.setApprovalAttachPath2(uploadDir);
-                            detail.setApprovalAttachFile2(savedFileName);
-                            detail.setApprovalAttachInfo2("기안");
-                        }
-                        case 2 -> {
-                            detail.setApprovalAttachPath3(uploadDir);
-                            detail.setApprovalAttachFile3(savedFileName);
-                            detail.setApprovalAttachInfo3("기안");
-                        }
-                        case 3 -> {
-                            detail.setApprovalAttachPath4(uploadDir);
-                            detail.setApprovalAttachFile4(savedFileName);
-                            detail.setApprovalAttachInfo4("기안");
-                        }
-                        case 4 -> {
-                            detail.setApprovalAttachPath5(uploadDir);
-                            detail.setApprovalAttachFile5(savedFileName);
-
-                            detail.setApprovalAttachInfo5("기안");
-                        }
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(messageUtil.getMessage("error.file.save.failed") + ": " + file.getOriginalFilename(), e);
-                }
+        // 첨부파일 (파일은 트랜잭션 전에 AttachmentStore 에서 저장 완료, 여기서는 메타데이터만 기록)
+        for (int i = 0; i < files.size() && i < AttachmentStore.MAX_ATTACH_FILES; i++) {
+            if (files.get(i) != null) {
+                setAttachFile(detail, i, files.get(i), "기안");
             }
         }
         approvalDetailRepository.save(detail);
+        approvalStateMachine.fire(transition);
     }
 
     // 임시저장
     @Transactional
-    public void temporaryDraft(ApprovalRequestDto dto, List<MultipartFile> files) {
+    public void temporaryDraft(ApprovalRequestDto dto, List<StoredFileDto> files) {
 
-        ApprovalSetting form = approvalSettingRepository.findByFormNo(dto.getFormNo())
+        FormCacheDto form = formCacheService.getForm(dto.getFormNo())
             .orElseThrow(() ->  new IllegalArgumentException(messageUtil.getMessage("error.approval.form.not.found")));
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
+        MemberCacheDto member = memberCacheService.getMember(memberId)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.exists")));
 
         Approval approval;
@@ -190,43 +160,42 @@ public class ApprovalDetailService {
             approval = new Approval();
             approval.setApprovalStartDate(null);
             approval.setApprovalId(memberId);
-            approval.setApprovalName(member.getMemberName());
-            approval.setApprovalDepartment(member.getMemberDepartment());
-            approval.setApprovalPosition(member.getMemberPosition());
-            approval.setApprovalStatus("기안중");
+            approval.setApprovalName(member.memberName());
+            approval.setApprovalDepartment(member.memberDepartment());
+            approval.setApprovalPosition(member.memberPosition());
             approval.setRegId(memberId);
         }
 
+        // 신규/기안중 문서만 임시저장 가능
+        ApprovalTransition transition = approvalStateMachine.plan(approval, ApprovalAction.SAVE, memberId);
+        approval.setApprovalStatus(transition.to());
+
         // 양식에 결재자가 지정되어 있으면 양식의 결재자 사용, 없으면 dto의 결재자 사용
-        String signId1 = (form.getFormSignId1() != null && !form.getFormSignId1().isBlank()) 
-            ? form.getFormSignId1() : dto.getSignId1();
-        String signId2 = (form.getFormSignId2() != null && !form.getFormSignId2().isBlank()) 
-            ? form.getFormSignId2() : dto.getSignId2();
-        String signId3 = (form.getFormSignId3() != null && !form.getFormSignId3().isBlank()) 
-            ? form.getFormSignId3() : dto.getSignId3();
-        String signId4 = (form.getFormSignId4() != null && !form.getFormSignId4().isBlank()) 
-            ? form.getFormSignId4() : dto.getSignId4();
-        String signId5 = (form.getFormSignId5() != null && !form.getFormSignId5().isBlank()) 
-            ? form.getFormSignId5() : dto.getSignId5();
-        
-        approval.setSignId1(signId1);
-        approval.setSignId2(signId2);
-        approval.setSignId3(signId3);
-        approval.setSignId4(signId4);
-        approval.setSignId5(signId5);
-        approval.setReferenceId(dto.getReferenceId());
-        approval.setNextId(signId1);
+        String[] signIds = {
+            pickSigner(form.signIds().get(0), dto.getSignId1()),
+            pickSigner(form.signIds().get(1), dto.getSignId2()),
+            pickSigner(form.signIds().get(2), dto.getSignId3()),
+            pickSigner(form.signIds().get(3), dto.getSignId4()),
+            pickSigner(form.signIds().get(4), dto.getSignId5())
+        };
+        String[] signMemberIds = pickSignerIds(form, dto.getSignMemberIds());
+
         approval.setUpdateId(memberId);
 
         approvalRepository.save(approval);
 
+        // 첫 번째 결재자부터 결재 (nextId = 결재자 memberId)
+        List<ApprovalSigner> signers = saveSigners(approval.getApprovalNo(), signIds, signMemberIds);
+        approval.setNextId(signers.isEmpty() ? null : signers.get(0).getMemberId());
+        saveReferences(approval.getApprovalNo(), dto.getReferenceId(), dto.getReferenceMemberIds());
+
         // ApprovalDetail
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approval.getApprovalNo())
             .orElseGet(() -> {
                 ApprovalDetail newDetail = new ApprovalDetail();
                 newDetail.setApprovalNo(approval.getApprovalNo());
                 newDetail.setFormNo(dto.getFormNo());
-                newDetail.setApprovalType(form.getFormType());
+                newDetail.setApprovalType(form.formType());
                 newDetail.setRegId(memberId);
                 return newDetail;
             });
@@ -235,55 +204,14 @@ public class ApprovalDetailService {
         detail.setApprovalDocument(dto.getApprovalDocument());
         detail.setUpdateId(memberId);
 
-
-        // 파일 처리 (최대 5개)
-        if (files != null) {
-
-            for (int i = 0; i < files.size() && i < 5; i++) {
-                MultipartFile file = files.get(i);
-                if (file.isEmpty()) continue;
-
-                try {
-                    // 저장할 경로
-                    String savedFileName = file.getOriginalFilename();
-                    Path savePath = Paths.get(tempDir, savedFileName);
-
-                    Files.createDirectories(savePath.getParent());
-                    file.transferTo(savePath.toFile());
-
-                    switch (i) {
-                        case 0 -> {
-                            detail.setApprovalAttachPath1(tempDir);
-                            detail.setApprovalAttachFile1(savedFileName);
-                            detail.setApprovalAttachInfo1("기안");
-                        }
-                        case 1 -> {
-                            detail.setApprovalAttachPath2(tempDir);
-                            detail.setApprovalAttachFile2(savedFileName);
-                            detail.setApprovalAttachInfo2("기안");
-                        }
-                        case 2 -> {
-                            detail.setApprovalAttachPath3(tempDir);
-                            detail.setApprovalAttachFile3(savedFileName);
-                            detail.setApprovalAttachInfo3("기안");
-                        }
-                        case 3 -> {
-                            detail.setApprovalAttachPath4(tempDir);
-                            detail.setApprovalAttachFile4(savedFileName);
-                            detail.setApprovalAttachInfo4("기안");
-                        }
-                        case 4 -> {
-                            detail.setApprovalAttachPath5(tempDir);
-                            detail.setApprovalAttachFile5(savedFileName);
-                            detail.setApprovalAttachInfo5("기안");
-                        }
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(messageUtil.getMessage("error.file.save.failed") + ": " + file.getOriginalFilename(), e);
-                }
+        // 첨부파일 (파일은 트랜잭션 전에 AttachmentStore 에서 저장 완료, 여기서는 메타데이터만 기록)
+        for (int i = 0; i < files.size() && i < AttachmentStore.MAX_ATTACH_FILES; i++) {
+            if (files.get(i) != null) {
+                setAttachFile(detail, i, files.get(i), "기안");
             }
         }
         approvalDetailRepository.save(detail);
+        approvalStateMachine.fire(transition);
     }
 
     // 기안서 가져오기
@@ -295,39 +223,52 @@ public class ApprovalDetailService {
         ApprovalDetail approvalDetail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found")));
 
-        ApprovalSetting form = approvalSettingRepository.findByFormNo(approvalDetail.getFormNo())
+        FormCacheDto form = formCacheService.getForm(approvalDetail.getFormNo())
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.form.not.found")));
 
+        // 결재라인 (seq 1~5 -> 배열 0~4)
+        ApprovalSigner[] signers = new ApprovalSigner[MAX_SIGNERS];
+        for (ApprovalSigner signer : approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo)) {
+            signers[signer.getSeq() - 1] = signer;
+        }
+        List<ApprovalReference> references = approvalReferenceRepository.findByApprovalNo(approvalNo);
+
         ApprovalResponseDto dto = new ApprovalResponseDto(
             approvalDetail.getFormNo(),
-            form.getFormTitle(),
+            form.formTitle(),
             approvalDetail.getApprovalTitle(),
             approval.getApprovalStartDate(),
             approval.getApprovalName(),
-            approval.getApprovalStatus(),
-            approval.getSignId1(),
-            approval.getSignId2(),
-            approval.getSignId3(),
-            approval.getSignId4(),
-            approval.getSignId5(),
-            approval.getSignDate1(),
-            approval.getSignDate2(),
-            approval.getSignDate3(),
-            approval.getSignDate4(),
-            approval.getSignDate5(),
-            approval.getReferenceId(),
-            approval.getNextId(),
+            approval.getApprovalStatus().getLabel(),
+            signers[0] != null ? signers[0].getMemberName() : null,
+            signers[1] != null ? signers[1].getMemberName() : null,
+            signers[2] != null ? signers[2].getMemberName() : null,
+            signers[3] != null ? signers[3].getMemberName() : null,
+            signers[4] != null ? signers[4].getMemberName() : null,
+            signers[0] != null ? signers[0].getSignedAt() : null,
+            signers[1] != null ? signers[1].getSignedAt() : null,
+            signers[2] != null ? signers[2].getSignedAt() : null,
+            signers[3] != null ? signers[3].getSignedAt() : null,
+            signers[4] != null ? signers[4].getSignedAt() : null,
+            references.stream()
+                .map(ApprovalReference::getMemberName)
+                .collect(Collectors.joining(",")),
+            Arrays.stream(signers)
+                .filter(signer -> signer != null && signer.getMemberId() != null && signer.getMemberId().equals(approval.getNextId()))
+                .map(ApprovalSigner::getMemberName)
+                .findFirst()
+                .orElse(null),
             approvalDetail.getApprovalAttachFile1(),
             approvalDetail.getApprovalAttachFile2(),
             approvalDetail.getApprovalAttachFile3(),
             approvalDetail.getApprovalAttachFile4(),
             approvalDetail.getApprovalAttachFile5(),
             approvalDetail.getApprovalDocument(),
-            approval.getSignRemark1(),
-            approval.getSignRemark2(),
-            approval.getSignRemark3(),
-            approval.getSignRemark4(),
-            approval.getSignRemark5(),
+            signers[0] != null ? signers[0].getRemark() : null,
+            signers[1] != null ? signers[1].getRemark() : null,
+            signers[2] != null ? signers[2].getRemark() : null,
+            signers[3] != null ? signers[3].getRemark() : null,
+            signers[4] != null ? signers[4].getRemark() : null,
             approvalDetail.getDrafterRemark(),
             approvalDetail.getReferenceRemark(),
             approval.getUpdateDate(),
@@ -337,84 +278,60 @@ public class ApprovalDetailService {
             approvalDetail.getSignerAttachInfo(),
             approvalDetail.getReferenceAttachFile(),
             approvalDetail.getReferenceAttachPath(),
-            approvalDetail.getReferenceAttachInfo()
+            approvalDetail.getReferenceAttachInfo(),
+            Arrays.stream(signers).map(signer -> signer != null ? signer.getMemberId() : null).toList(),
+            references.stream().map(ApprovalReference::getMemberId).toList()
         );
         return dto;
     }
 
     // 파일 다운로드
-    public Resource loadFile(int approvalNo, String file) throws IOException {
+    public AttachmentFileDto loadFile(int approvalNo, String file) {
 
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.document.not.exists")));
 
-        String filePath = switch (file) {
+        String[] attach = switch (file) {
 
-            case "approvalAttachFile1" -> detail.getApprovalAttachPath1() + "/" + detail.getApprovalAttachFile1();
-            case "approvalAttachFile2" -> detail.getApprovalAttachPath2() + "/" + detail.getApprovalAttachFile2();
-            case "approvalAttachFile3" -> detail.getApprovalAttachPath3() + "/" + detail.getApprovalAttachFile3();
-            case "approvalAttachFile4" -> detail.getApprovalAttachPath4() + "/" + detail.getApprovalAttachFile4();
-            case "approvalAttachFile5" -> detail.getApprovalAttachPath5() + "/" + detail.getApprovalAttachFile5();
-            case "signerAttachFile" -> detail.getSignerAttachPath() + "/" + detail.getSignerAttachFile();
-            case "referenceAttachFile" -> detail.getReferenceAttachPath() + "/" + detail.getReferenceAttachFile();
+            case "approvalAttachFile1" -> new String[] { detail.getApprovalAttachPath1(), detail.getApprovalAttachFile1() };
+            case "approvalAttachFile2" -> new String[] { detail.getApprovalAttachPath2(), detail.getApprovalAttachFile2() };
+            case "approvalAttachFile3" -> new String[] { detail.getApprovalAttachPath3(), detail.getApprovalAttachFile3() };
+            case "approvalAttachFile4" -> new String[] { detail.getApprovalAttachPath4(), detail.getApprovalAttachFile4() };
+            case "approvalAttachFile5" -> new String[] { detail.getApprovalAttachPath5(), detail.getApprovalAttachFile5() };
+            case "signerAttachFile" -> new String[] { detail.getSignerAttachPath(), detail.getSignerAttachFile() };
+            case "referenceAttachFile" -> new String[] { detail.getReferenceAttachPath(), detail.getReferenceAttachFile() };
             default -> throw new IllegalArgumentException(messageUtil.getMessage("error.file.parameter.invalid"));
         };
 
-        Path path = Paths.get(filePath);
+        if (attach[0] == null || attach[1] == null) {
+            throw new IllegalArgumentException(messageUtil.getMessage("error.file.not.found"));
+        }
+
+        Path path = attachmentStore.resolve(attach[0], attach[1]);
         if (!Files.exists(path)) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.file.not.found"));
         }
 
-        return new FileSystemResource(path);
+        return new AttachmentFileDto(path, attach[1], attachmentStore.isBlob(attach[0]) ? attach[0] : null);
     }
 
-    // 파일 삭제
+    // 파일 삭제 (내용 주소 파일은 참조 수만 감소, 실제 삭제는 정리 작업에서)
     @Transactional
     public void deleteFile(int approvalNo, String file) throws IOException {
 
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.document.not.exists")));
 
-        String filePath = null;
-
-        switch (file) {
-            case "approvalAttachFile1" -> {
-                filePath = detail.getApprovalAttachPath1() + "/" + detail.getApprovalAttachFile1();
-                detail.setApprovalAttachFile1(null);
-                detail.setApprovalAttachPath1(null);
-                detail.setApprovalAttachInfo1(null);
-            }
-            case "approvalAttachFile2" -> {
-                filePath = detail.getApprovalAttachPath2() + "/" + detail.getApprovalAttachFile2();
-                detail.setApprovalAttachFile2(null);
-                detail.setApprovalAttachPath2(null);
-                detail.setApprovalAttachInfo2(null);
-            }
-            case "approvalAttachFile3" -> {
-                filePath = detail.getApprovalAttachPath2() + "/" + detail.getApprovalAttachFile2();
-                detail.setApprovalAttachFile3(null);
-                detail.setApprovalAttachPath3(null);
-                detail.setApprovalAttachInfo3(null);
-            }
-            case "approvalAttachFile4" -> {
-                filePath = detail.getApprovalAttachPath2() + "/" + detail.getApprovalAttachFile2();
-                detail.setApprovalAttachFile4(null);
-                detail.setApprovalAttachPath4(null);
-                detail.setApprovalAttachInfo4(null);
-            }
-            case "approvalAttachFile5" -> {
-                filePath = detail.getApprovalAttachPath2() + "/" + detail.getApprovalAttachFile2();
-                detail.setApprovalAttachFile5(null);
-                detail.setApprovalAttachPath5(null);
-                detail.setApprovalAttachInfo5(null);
-            }
-
+        int slot = switch (file) {
+            case "approvalAttachFile1" -> 0;
+            case "approvalAttachFile2" -> 1;
+            case "approvalAttachFile3" -> 2;
+            case "approvalAttachFile4" -> 3;
+            case "approvalAttachFile5" -> 4;
             default -> throw new IllegalArgumentException(messageUtil.getMessage("error.file.parameter.invalid"));
-        }
+        };
 
-        if (filePath != null) {
-            Files.deleteIfExists(Paths.get(filePath)); // 실제 파일 삭제
-        }
+        releaseAttachFile(detail, slot);
 
         approvalDetailRepository.save(detail); // DB 반영
     }
@@ -427,26 +344,12 @@ public class ApprovalDetailService {
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.document.not.exists")));
         
-        // 첨부파일들도 함께 삭제
-        try {
-            if (detail.getApprovalAttachFile1() != null) {
-                deleteFile(approvalNo, "approvalAttachFile1");
-            }
-            if (detail.getApprovalAttachFile2() != null) {
-                deleteFile(approvalNo, "approvalAttachFile2");
-            }
-            if (detail.getApprovalAttachFile3() != null) {
-                deleteFile(approvalNo, "approvalAttachFile3");
-            }
-            if (detail.getApprovalAttachFile4() != null) {
-                deleteFile(approvalNo, "approvalAttachFile4");
-            }
-            if (detail.getApprovalAttachFile5() != null) {
-                deleteFile(approvalNo, "approvalAttachFile5");
-            }
-        } catch (IOException e) {
-            // 파일 삭제 실패는 무시하고 계속 진행
+        // 첨부파일 참조 해제 (기안 첨부 + 결재자/참조자 첨언 첨부)
+        for (int slot = 0; slot < AttachmentStore.MAX_ATTACH_FILES; slot++) {
+            releaseAttachFile(detail, slot);
         }
+        attachmentStore.release(detail.getSignerAttachPath());
+        attachmentStore.release(detail.getReferenceAttachPath());
         
         approvalDetailRepository.delete(detail);
         
@@ -454,6 +357,8 @@ public class ApprovalDetailService {
         Approval approval = approvalRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.draft.not.found")));
         
+        approvalSignerRepository.deleteByApprovalNo(approvalNo);
+        approvalReferenceRepository.deleteByApprovalNo(approvalNo);
         approvalRepository.delete(approval);
     }
 
@@ -466,35 +371,204 @@ public class ApprovalDetailService {
         Approval approval = approvalRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.draft.not.found")));
         
-        // 권한 확인: 기안자만 취소 가능
-        if (!approval.getApprovalId().equals(memberId)) {
-            throw new IllegalArgumentException(messageUtil.getMessage("error.approval.cancel.drafter.only"));
-        }
-        
-        // 상태 확인: 진행중 상태만 취소 가능
-        if (!"진행중".equals(approval.getApprovalStatus())) {
-            throw new IllegalArgumentException(messageUtil.getMessage("error.approval.cancel.only.inprogress"));
-        }
+        // 기안자 + 진행중 문서만 취소 가능
+        ApprovalTransition transition = approvalStateMachine.plan(approval, ApprovalAction.CANCEL, memberId);
         
-        // 취소 가능 조건 확인: 첫 번째 결재자(signId1)가 결재했으면 취소 불가
-        if (approval.getSignDate1() != null) {
+        List<ApprovalSigner> signers = approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo);
+
+        // 취소 가능 조건 확인: 첫 번째 결재자가 결재했으면 취소 불가
+        if (!signers.isEmpty() && signers.get(0).getSignedAt() != null) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.approval.cancel.first.signer.approved"));
         }
         
-        // 취소 가능 조건 확인: signId2부터는 아무도 결재하지 않아야 함
-        if (approval.getSignDate2() != null || 
-            approval.getSignDate3() != null || 
-            approval.getSignDate4() != null || 
-            approval.getSignDate5() != null) {
+        // 취소 가능 조건 확인: 두 번째 결재자부터는 아무도 결재하지 않아야 함
+        if (signers.stream().anyMatch(signer -> signer.getSignedAt() != null)) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.approval.cancel.second.signer.approved"));
         }
         
-        // 상태를 기안중으로 변경
-        approval.setApprovalStatus("기안중");
-        approval.setApprovalEndDate(null);
+        // 상태를 기안중으로 변경 (조회 이후 결재자가 먼저 처리했으면 409)
+        int updated = approvalRepository.compareAndSetStatus(approvalNo, transition.from(), transition.previousNextId(),
+            transition.to(), null, memberId, LocalDateTime.now());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(messageUtil.getMessage("error.approval.conflict"));
+        }
+        approval.setApprovalStatus(transition.to());
         approval.setNextId(null);
-        
-        approval.setUpdateId(memberId);
-        approvalRepository.save(approval);
+
+        // 현재 결재자의 결재할 문서에서 제거
+        approvalStateMachine.fire(transition);
+    }
+
+    // 양식 지정 결재자 우선
+    private String pickSigner(String formSignId, String dtoSignId) {
+        return (formSignId != null && !formSignId.isBlank()) ? formSignId : dtoSignId;
+    }
+
+    // 칸별 dto 결재자 memberId (양식이 지정한 칸은 양식의 결재자 이름으로 찾으므로 null)
+    private String[] pickSignerIds(FormCacheDto form, List<String> dtoSignMemberIds) {
+
+        String[] signMemberIds = new String[form.signIds().size()];
+        for (int i = 0; i < signMemberIds.length; i++) {
+            String formSignId = form.signIds().get(i);
+            boolean formDefined = formSignId != null && !formSignId.isBlank();
+            if (!formDefined && dtoSignMemberIds != null && i < dtoSignMemberIds.size()) {
+                signMemberIds[i] = dtoSignMemberIds.get(i);
+            }
+        }
+        return signMemberIds;
+    }
+
+    // 첨부 슬롯(0~4)에 파일 정보 기록 (path = 내용 해시, file = 원본 파일명), 기존 파일은 참조 해제
+    private void setAttachFile(ApprovalDetail detail, int slot, StoredFileDto file, String info) {
+
+        releaseAttachFile(detail, slot);
+        attachmentStore.acquire(file);
+
+        switch (slot) {
+            case 0 -> { detail.setApprovalAttachPath1(file.sha256()); detail.setApprovalAttachFile1(file.fileName()); detail.setApprovalAttachInfo1(info); }
+            case 1 -> { detail.setApprovalAttachPath2(file.sha256()); detail.setApprovalAttachFile2(file.fileName()); detail.setApprovalAttachInfo2(info); }
+            case 2 -> { detail.setApprovalAttachPath3(file.sha256()); detail.setApprovalAttachFile3(file.fileName()); detail.setApprovalAttachInfo3(info); }
+            case 3 -> { detail.setApprovalAttachPath4(file.sha256()); detail.setApprovalAttachFile4(file.fileName()); detail.setApprovalAttachInfo4(info); }
+            case 4 -> { detail.setApprovalAttachPath5(file.sha256()); detail.setApprovalAttachFile5(file.fileName()); detail.setApprovalAttachInfo5(info); }
+        }
+    }
+
+    // 첨부 슬롯(0~4) 비우기 - 내용 주소 파일은 참조 -1, 기존 경로 파일은 바로 삭제
+    private void releaseAttachFile(ApprovalDetail detail, int slot) {
+
+        String[] attach = switch (slot) {
+            case 0 -> new String[] { detail.getApprovalAttachPath1(), detail.getApprovalAttachFile1() };
+            case 1 -> new String[] { detail.getApprovalAttachPath2(), detail.getApprovalAttachFile2() };
+            case 2 -> new String[] { detail.getApprovalAttachPath3(), detail.getApprovalAttachFile3() };
+            case 3 -> new String[] { detail.getApprovalAttachPath4(), detail.getApprovalAttachFile4() };
+            default -> new String[] { detail.getApprovalAttachPath5(), detail.getApprovalAttachFile5() };
+        };
+        if (attach[0] == null) return;
+
+        if (attachmentStore.isBlob(attach[0])) {
+            attachmentStore.release(attach[0]);
+        } else if (attach[1] != null) {
+            try {
+                Files.deleteIfExists(Paths.get(attach[0], attach[1]));
+            } catch (IOException e) {
+                // 파일 삭제 실패는 무시하고 계속 진행
+            }
+        }
+
+        switch (slot) {
+            case 0 -> { detail.setApprovalAttachPath1(null); detail.setApprovalAttachFile1(null); detail.setApprovalAttachInfo1(null); }
+            case 1 -> { detail.setApprovalAttachPath2(null); detail.setApprovalAttachFile2(null); detail.setApprovalAttachInfo2(null); }
+            case 2 -> { detail.setApprovalAttachPath3(null); detail.setApprovalAttachFile3(null); detail.setApprovalAttachInfo3(null); }
+            case 3 -> { detail.setApprovalAttachPath4(null); detail.setApprovalAttachFile4(null); detail.setApprovalAttachInfo4(null); }
+            default -> { detail.setApprovalAttachPath5(null); detail.setApprovalAttachFile5(null); detail.setApprovalAttachInfo5(null); }
+        }
+    }
+
+    // 결재라인 저장 (seq = 슬롯 순서, 빈 슬롯은 행 없음)
+    // 같은 순번의 기존 행은 결재일시/의견을 유지하고 결재자만 갱신
+    private List<ApprovalSigner> saveSigners(int approvalNo, String[] signIds, String[] signMemberIds) {
+
+        Map<Integer, ApprovalSigner> existing = approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo).stream()
+            .collect(Collectors.toMap(ApprovalSigner::getSeq, Function.identity()));
+
+        List<Member> members = resolveMembers(Arrays.asList(signIds), Arrays.asList(signMemberIds));
+
+        List<ApprovalSigner> signers = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            int seq = i + 1;
+            Member member = members.get(i);
+
+            if (member == null) {
+                ApprovalSigner removed = existing.get(seq);
+                if (removed != null) approvalSignerRepository.delete(removed);
+                continue;
+            }
+
+            ApprovalSigner signer = existing.getOrDefault(seq, ApprovalSigner.builder().approvalNo(approvalNo).seq(seq).build());
+            signer.setMemberId(member.getMemberId());
+            signer.setMemberName(member.getMemberName());
+            signers.add(signer);
+        }
+        return approvalSignerRepository.saveAll(signers);
+    }
+
+    // 결재자/참조자 칸 -> 회원 (names, memberIds 는 같은 순서, 빈 칸은 null)
+    // memberId 가 있으면 memberId 로 찾고, 이름만 있으면 이름으로 찾되 동명이인이면 누구인지 알 수 없으므로 오류
+    private List<Member> resolveMembers(List<String> names, List<String> memberIds) {
+
+        List<String> ids = memberIds.stream().filter(StringUtils::hasText).distinct().toList();
+        List<String> nameOnly = IntStream.range(0, names.size())
+            .filter(i -> !StringUtils.hasText(memberIds.get(i)) && StringUtils.hasText(names.get(i)))
+            .mapToObj(names::get)
+            .distinct()
+            .toList();
+
+        Map<String, Member> byId = ids.isEmpty() ? Map.of() : memberRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+        Map<String, List<Member>> byName = nameOnly.isEmpty() ? Map.of() : memberRepository.findByMemberNameIn(nameOnly).stream()
+            .collect(Collectors.groupingBy(Member::getMemberName));
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            String memberId = memberIds.get(i);
+            String name = names.get(i);
+
+            if (StringUtils.hasText(memberId)) {
+                Member member = byId.get(memberId);
+                if (member == null) {
+                    throw new IllegalArgumentException(messageUtil.getMessage("error.member.not.found") + ": " + memberId);
+                }
+                members.add(member);
+            } else if (StringUtils.hasText(name)) {
+                List<Member> matches = byName.getOrDefault(name, List.of());
+                if (matches.isEmpty()) {
+                    throw new IllegalArgumentException(messageUtil.getMessage("error.member.not.found") + ": " + name);
+                }
+                if (matches.size() > 1) {
+                    throw new IllegalArgumentException(messageUtil.getMessage("error.member.name.ambiguous", name));
+                }
+                members.add(matches.get(0));
+            } else {
+                members.add(null);
+            }
+        }
+        return members;
+    }
+
+    // 참조자 저장 (referenceMemberIds 가 있으면 memberId 로, 없으면 referenceId 의 쉼표로 구분된 이름 목록으로)
+    // 기존 행과 비교해서 빠진 참조자만 삭제, 새 참조자만 추가
+    private void saveReferences(int approvalNo, String referenceId, List<String> referenceMemberIds) {
+
+        List<String> memberIds = referenceMemberIds == null ? List.of() : referenceMemberIds.stream()
+            .filter(StringUtils::hasText)
+            .distinct()
+            .toList();
+
+        List<Member> members;
+        if (!memberIds.isEmpty()) {
+            members = resolveMembers(Collections.nCopies(memberIds.size(), null), memberIds);
+        } else {
+            List<String> names = referenceId == null ? List.of() : Arrays.stream(referenceId.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+            members = resolveMembers(names, Collections.nCopies(names.size(), null));
+        }
+
+        List<ApprovalReference> references = members.stream()
+            .map(member -> ApprovalReference.builder()
+                .approvalNo(approvalNo)
+                .memberId(member.getMemberId())
+                .memberName(member.getMemberName())
+                .build())
+            .toList();
+
+        Set<String> keep = references.stream().map(ApprovalReference::getMemberId).collect(Collectors.toSet());
+        List<ApprovalReference> existing = approvalReferenceRepository.findByApprovalNo(approvalNo);
+        Set<String> existingIds = existing.stream().map(ApprovalReference::getMemberId).collect(Collectors.toSet());
+
+        approvalReferenceRepository.deleteAll(existing.stream().filter(ref -> !keep.contains(ref.getMemberId())).toList());
+        approvalReferenceRepository.saveAll(references.stream().filter(ref -> !existingIds.contains(ref.getMemberId())).toList());
     }
 }
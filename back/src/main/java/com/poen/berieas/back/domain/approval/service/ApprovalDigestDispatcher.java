@@ -0,0 +1,137 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.poen.berieas.back.domain.approval.dto.ApprovalTitleDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.repository.ApprovalDetailRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.email.service.EmailService;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.repository.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 결재 흐름 알림 묶음 메일
+// - 주기마다 대기 중인 알림을 받는 사람별로 모아서 메일 1통으로 등록 (EmailService 대기열)
+// - 같은 문서/같은 종류 알림은 1줄로 합침
+// - 메일 등록과 알림 처리 표시가 한 트랜잭션 → 중간에 실패하면 다음 주기에 다시 처리
+//   (스케줄러가 poll() 을 프록시 없이 부르므로 @Transactional 대신 TransactionTemplate 으로 직접 시작)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalDigestDispatcher {
+
+    private final ApprovalEventRepository approvalEventRepository;
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalDetailRepository approvalDetailRepository;
+    private final MemberRepository memberRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 처리할 알림 수 (남으면 다음 주기)
+    @Value("${approval.digest.batch-size:500}")
+    private int batchSize;
+
+    // 묶음 주기 (이 간격 안에 쌓인 알림이 한 통으로 나감)
+    @Scheduled(fixedDelayString = "${approval.digest.interval:PT5M}")
+    public void poll() {
+
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("결재 알림 메일 등록 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 대기 중인 알림을 묶음 메일로 등록, 등록한 메일 수 반환
+    public int dispatch() {
+
+        return transactionTemplate.execute(status -> dispatchPending());
+    }
+
+    private int dispatchPending() {
+
+        List<ApprovalEvent> events = approvalEventRepository.findPending(Limit.of(batchSize));
+        if (events.isEmpty()) return 0;
+
+        // 알림 처리 표시 - 다른 인스턴스가 먼저 가져갔으면 롤백 (같은 메일이 두 번 나가지 않도록)
+        List<Long> ids = events.stream().map(ApprovalEvent::getId).toList();
+        if (approvalEventRepository.markDispatched(ids, LocalDateTime.now()) != ids.size()) {
+            throw new IllegalStateException("approval events already dispatched");
+        }
+
+        Set<Integer> approvalNos = events.stream().map(ApprovalEvent::getApprovalNo).collect(Collectors.toSet());
+        Map<Integer, Approval> approvals = approvalRepository.findAllById(approvalNos).stream()
+            .collect(Collectors.toMap(Approval::getApprovalNo, Function.identity()));
+        Map<Integer, String> titles = approvalDetailRepository.findTitlesByApprovalNoIn(approvalNos).stream()
+            .filter(detail -> detail.approvalTitle() != null)
+            .collect(Collectors.toMap(ApprovalTitleDto::approvalNo, ApprovalTitleDto::approvalTitle, (a, b) -> a));
+
+        Map<String, List<ApprovalEvent>> byRecipient = events.stream()
+            .collect(Collectors.groupingBy(ApprovalEvent::getRecipientId, LinkedHashMap::new, Collectors.toList()));
+        Map<String, Member> members = memberRepository.findAllById(byRecipient.keySet()).stream()
+            .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        int mails = 0;
+        for (Map.Entry<String, List<ApprovalEvent>> entry : byRecipient.entrySet()) {
+            Member member = members.get(entry.getKey());
+
+            // 메일 주소가 없거나 사용 중지된 회원은 알림만 처리 표시
+            if (member == null || member.getMemberEmail() == null || member.getMemberEmail().isBlank()
+                    || !"Y".equals(member.getUseYn())) {
+                continue;
+            }
+
+            String body = buildBody(member, entry.getValue(), approvals, titles);
+            if (body == null) continue;
+
+            emailService.sendEmail(member.getMemberEmail(), "[전자결재] 새 알림", body);
+            mails++;
+        }
+        return mails;
+    }
+
+    private String buildBody(Member member, List<ApprovalEvent> events,
+            Map<Integer, Approval> approvals, Map<Integer, String> titles) {
+
+        // 종류별 → 문서번호 (중복 제거, 발생 순서 유지)
+        Map<ApprovalEventType, Set<Integer>> grouped = events.stream()
+            .filter(event -> approvals.containsKey(event.getApprovalNo()))
+            .collect(Collectors.groupingBy(ApprovalEvent::getEventType, () -> new EnumMap<>(ApprovalEventType.class),
+                Collectors.mapping(ApprovalEvent::getApprovalNo, Collectors.toCollection(LinkedHashSet::new))));
+        if (grouped.isEmpty()) return null;
+
+        StringBuilder body = new StringBuilder();
+        body.append(member.getMemberName()).append("님, 전자결재 알림입니다.\n");
+
+        grouped.forEach((type, nos) -> {
+            body.append("\n[").append(type.getLabel()).append("] ").append(nos.size()).append("건\n");
+            for (Integer no : nos) {
+                Approval approval = approvals.get(no);
+                body.append(" - ").append(titles.getOrDefault(no, "(제목 없음)"))
+                    .append(" (문서번호 ").append(no)
+                    .append(", 기안자 ").append(approval.getApprovalName()).append(")\n");
+            }
+        });
+        return body.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ApprovalEventService implements ApprovalTransitionListener {
+
+    private final ApprovalEventRepository approvalEventRepository;
+
+    // 상태 전이 → 알림 (다음 결재자에게 결재 요청, 기안자에게 완료/반려)
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransition(ApprovalTransition transition) {
+
+        Approval approval = transition.approval();
+        switch (transition.action()) {
+            case SUBMIT, APPROVE -> publish(approval.getApprovalNo(), ApprovalEventType.SIGN_REQUESTED, approval.getNextId());
+            case COMPLETE -> publish(approval.getApprovalNo(), ApprovalEventType.COMPLETED, approval.getApprovalId());
+            case REJECT -> publish(approval.getApprovalNo(), ApprovalEventType.REJECTED, approval.getApprovalId());
+            default -> { }
+        }
+    }
+
+    // 결재 흐름 알림 등록 - 호출한 트랜잭션(상태 변경)과 함께 커밋/롤백
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(int approvalNo, ApprovalEventType eventType, String recipientId) {
+
+        if (recipientId == null || recipientId.isBlank()) return;
+
+        approvalEventRepository.save(ApprovalEvent.builder()
+            .approvalNo(approvalNo)
+            .eventType(eventType)
+            .recipientId(recipientId)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+}
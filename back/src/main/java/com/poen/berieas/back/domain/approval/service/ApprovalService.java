@@ -1,587 +1,423 @@
 package com.poen.berieas.back.domain.approval.service;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.dto.ApprovalListRowDto;
+import com.poen.berieas.back.domain.approval.dto.ApprovalStatusCountDto;
 import com.poen.berieas.back.domain.approval.dto.CommentRequestDto;
+import com.poen.berieas.back.domain.approval.dto.DashboardResponseDto;
 import com.poen.berieas.back.domain.approval.dto.MyApprovalResponseDto;
 import com.poen.berieas.back.domain.approval.dto.ProgressListResponseDto;
+import com.poen.berieas.back.domain.approval.dto.ProgressSliceDto;
+import com.poen.berieas.back.domain.approval.dto.SignerStatusDto;
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
 import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
 import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
+import com.poen.berieas.back.domain.approval.entity.ApprovalReference;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
 import com.poen.berieas.back.domain.approval.repository.ApprovalDetailRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalReferenceRepository;
 import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
-import com.poen.berieas.back.domain.member.entity.Member;
-import com.poen.berieas.back.domain.member.repository.MemberRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
 import com.poen.berieas.back.util.MessageUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ApprovalService {
 
-    // 파일 저장
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    // 파일 임시 저장 
-    @Value("${file.upload-temp-dir}")
-    private String tempDir;
-    
     private final ApprovalRepository approvalRepository;
     private final ApprovalDetailRepository approvalDetailRepository;
-    private final MemberRepository memberRepository;
+    private final ApprovalSignerRepository approvalSignerRepository;
+    private final ApprovalReferenceRepository approvalReferenceRepository;
+    private final AttachmentStore attachmentStore;
+    private final ApprovalStateMachine approvalStateMachine;
+    private final ApprovalStreamService approvalStreamService;
     private final MessageUtil messageUtil;
+    private final CacheManager cacheManager;
+
+    // 대시보드 "내가 상신한 문서" 표시 건수
+    private static final int DASHBOARD_SUBMITTED_SIZE = 5;
+
+    // 대시보드 "내가 결재할 문서" 표시 건수 (전체 건수는 pendingCount)
+    private static final int DASHBOARD_PENDING_SIZE = 10;
+
+    // 커서 조회 한 번에 가져오는 최대 건수
+    private static final int MAX_SLICE_SIZE = 100;
+
+    // 첫 페이지 커서 (모든 문서보다 뒤)
+    private static final ListCursor FIRST_CURSOR = new ListCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
     
-    // 대시보드(전체)
-    public int totalApprovalCount() {
+    // 대시보드 (상태별 건수 + 내가 상신한 문서 + 내가 결재할 문서)
+    public DashboardResponseDto getDashboard() {
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        int total = approvalRepository.totalCount(memberId);
-        return total;
+        // 상태별 건수
+        Map<ApprovalStatus, Long> counts = approvalRepository.countByStatus(memberId).stream()
+            .collect(Collectors.toMap(ApprovalStatusCountDto::getApprovalStatus, ApprovalStatusCountDto::getCount, Long::sum));
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        // 내가 상신한 문서 (현재 결재자 표시)
+        List<ApprovalListRowDto> submittedRows = approvalRepository
+            .findRecentSubmittedWithDetail(memberId, Limit.of(DASHBOARD_SUBMITTED_SIZE));
+        Map<Integer, List<SignerStatusDto>> signers = loadSigners(submittedRows);
+        List<MyApprovalResponseDto> mySubmitted = submittedRows.stream()
+            .map(row -> toMyApprovalDto(row,
+                getCurrentSigner(row.approvalStatus(), signers.getOrDefault(row.approvalNo(), List.of()))))
+            .toList();
+
+        // 내가 결재할 문서 (기안자 표시)
+        List<MyApprovalResponseDto> myPending = approvalRepository
+            .findPendingWithDetail(memberId, Limit.of(DASHBOARD_PENDING_SIZE)).stream()
+            .map(row -> toMyApprovalDto(row, row.approvalName()))
+            .toList();
+
+        // 표시 건수보다 적으면 그대로 전체 건수, 넘칠 때만 count 쿼리
+        long pendingCount = myPending.size() < DASHBOARD_PENDING_SIZE
+            ? myPending.size()
+            : approvalRepository.countByNextIdAndApprovalStatus(memberId, ApprovalStatus.IN_PROGRESS);
+
+        return new DashboardResponseDto(
+            total,
+            counts.getOrDefault(ApprovalStatus.IN_PROGRESS, 0L),
+            counts.getOrDefault(ApprovalStatus.COMPLETED, 0L),
+            mySubmitted,
+            myPending,
+            pendingCount
+        );
     }
 
-    // 대시보드(진행중)
-    public int inProgressCount() {
+    private MyApprovalResponseDto toMyApprovalDto(ApprovalListRowDto row, String signId) {
 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
+        return new MyApprovalResponseDto(
+            row.approvalNo(),
+            row.approvalStatus().getLabel(),
+            row.approvalType(),
+            row.approvalTitle(),
+            signId,
+            row.regDate()
+        );
+    }
+
+    // 현재 결재자 (반려: 마지막으로 처리한 결재자, 그 외: 결재 순서상 첫 미결재자)
+    private String getCurrentSigner(ApprovalStatus status, List<SignerStatusDto> signers) {
+
+        if (status == ApprovalStatus.REJECTED) {
+            return signers.stream()
+                    .filter(signer -> signer.signedAt() != null)
+                    .max(Comparator.comparing(SignerStatusDto::signedAt)) // 가장 최근 결재자 찾기
+                    .map(SignerStatusDto::memberName)
+                    .orElse(" ");
+        }
 
-        int inProgress = approvalRepository.inProressCount(memberId);
-        return inProgress;
+        return signers.stream()
+                .filter(signer -> signer.signedAt() == null)
+                .findFirst()
+                .map(SignerStatusDto::memberName)
+                .orElse(" "); // 다 승인했을 경우 공백
     }
 
-    // 대시보드(완료)
-    public int completedCount() {
+    // 진행목록(전체)  전체는 내가 기안 올린 문서 + 결재할 문서 (기안중 문서는 작성자 본인 것만)
+    public Page<ProgressListResponseDto> getAllApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
+        return getProgressPage(ProgressListType.ALL, pageable, from, to, keyword);
+    }
 
-        int completed = approvalRepository.completedCount(memberId);
-        return completed;
+    // 진행목록(진행중) - 내가 기안한 문서 + 결재할 문서
+    public Page<ProgressListResponseDto> getInProgressApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
+
+        return getProgressPage(ProgressListType.IN_PROGRESS, pageable, from, to, keyword);
     }
 
-    // 대시보드(내가 상신한 문서)
-    public List<MyApprovalResponseDto> getMySubmitted() {
+    // 진행목록(기안중)
+    public Page<ProgressListResponseDto> getTemporarySavedApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
 
-        // 로그인한 유저의 memberId 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
+        return getProgressPage(ProgressListType.TEMPORARY_SAVED, pageable, from, to, keyword);
+    }
+
+    // 진행목록(반려)
+    public Page<ProgressListResponseDto> getReturnedApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
 
-        List<Approval> approvals = approvalRepository.findTop5ByApprovalIdOrderByRegDateDesc(memberId);
-        return approvals.stream()
-            .map(approval -> {
-                
-                ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approval.getApprovalNo()). orElse(null);
-                String currentSigner = getCurrentSigner(approval);
-                
-                return new MyApprovalResponseDto(
-                    approval.getApprovalNo(),
-                    approval.getApprovalStatus(),
-                    detail != null ? detail.getApprovalType() : null,
-                    detail != null ? detail.getApprovalTitle() : null,
-                    currentSigner,
-                    approval.getRegDate()
-                );
-            }).collect(Collectors.toList());
+        return getProgressPage(ProgressListType.RETURNED, pageable, from, to, keyword);
     }
 
-    // 현재 결재자
-    private String getCurrentSigner(Approval approval) {
+    // 진행목록(완료)
+    public Page<ProgressListResponseDto> getCompletedApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
 
-        if("반려".equals(approval.getApprovalStatus())) {
-            Map<LocalDateTime, String> signerMap = new HashMap<>();
+        return getProgressPage(ProgressListType.COMPLETED, pageable, from, to, keyword);
+    }
 
-            if (approval.getSignDate1() != null) signerMap.put(approval.getSignDate1(), approval.getSignId1());
-            if (approval.getSignDate2() != null) signerMap.put(approval.getSignDate2(), approval.getSignId2());
-            if (approval.getSignDate3() != null) signerMap.put(approval.getSignDate3(), approval.getSignId3());
-            if (approval.getSignDate4() != null) signerMap.put(approval.getSignDate4(), approval.getSignId4());
-            if (approval.getSignDate5() != null) signerMap.put(approval.getSignDate5(), approval.getSignId5());
+    // 진행목록 오프셋 페이지 (범위 조건은 커서 조회와 같은 ApprovalListScope)
+    private Page<ProgressListResponseDto> getProgressPage(ProgressListType type, Pageable pageable, LocalDate from, LocalDate to, String keyword) {
 
-            return signerMap.entrySet().stream()
-                    .max(Map.Entry.comparingByKey()) // 가장 최근 결재자 찾기
-                    .map(Map.Entry::getValue)
-                    .orElse(" ");
-        }
+        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        Page<ApprovalListRowDto> approvals = approvalRepository.findProgressList(type.getScope(),
+                memberId, startOf(from), endOf(to), toLikePattern(keyword), ApprovalStatus.matchingLabel(keyword), pageable);
 
-        if (approval.getSignDate1() == null) return approval.getSignId1();
-        if (approval.getSignDate2() == null) return approval.getSignId2();
-        if (approval.getSignDate3() == null) return approval.getSignId3();
-        if (approval.getSignDate4() == null) return approval.getSignId4();
-        if (approval.getSignDate5() == null) return approval.getSignId5();
-        return " "; // 다 승인했을 경우 공백 
+        return toProgressPage(approvals);
     }
 
-    // 대시보드(내가 결재할 문서)
-    public List<MyApprovalResponseDto> getPendingApprovals() {
+    // 진행목록 커서(keyset) 조회 - 오프셋 대신 마지막 행의 (regDate, approvalNo) 뒤부터 읽으므로 500 페이지째도 첫 페이지와 같은 비용
+    // 건수는 count=true 일 때만, 캐시된 근사값으로 (목록 조회마다 count 쿼리를 돌리지 않음)
+    public ProgressSliceDto getProgressSlice(ProgressListType type, String cursor, int size, LocalDate from, LocalDate to, String keyword, boolean withCount) {
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        
-        Member member = memberRepository.findByMemberId(memberId).orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
-
-        List<Approval> approvals = approvalRepository.findPendingApprovals(member.getMemberName());
-        return approvals.stream()
-            .map(approval -> {
-                ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approval.getApprovalNo()).orElse(null);
-
-                return new MyApprovalResponseDto(
-                    approval.getApprovalNo(),
-                    approval.getApprovalStatus(),
-                    detail != null ? detail.getApprovalType() : null,
-                    detail != null ? detail.getApprovalTitle() : null,
-                    approval.getApprovalName(),
-                    approval.getRegDate()
-                );
-        }).collect(Collectors.toList());
+        int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        ListCursor after = decodeCursor(cursor);
+
+        ListFilter filter = new ListFilter(type, memberId, startOf(from), endOf(to), toLikePattern(keyword), ApprovalStatus.matchingLabel(keyword));
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<ApprovalListRowDto> rows = approvalRepository.findProgressListAfter(filter.type().getScope(),
+                filter.memberId(), filter.from(), filter.to(), filter.keyword(), filter.statuses(), after.regDate(), after.approvalNo(), Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<ApprovalListRowDto> page = hasNext ? rows.subList(0, limit) : rows;
+
+        return new ProgressSliceDto(
+                toProgressList(page),
+                hasNext ? encodeCursor(page.get(limit - 1)) : null,
+                withCount ? approximateCount(filter) : null);
     }
 
-    // 진행목록(전체)  전체는 내가 기안 올린 문서 + 결재할 문서 
-   public Page<ProgressListResponseDto> getAllApprovals(
-        Pageable pageable, LocalDate from, LocalDate to, String keyword) {
-
-    String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-Member me = memberRepository.findByMemberId(loginId)
-        .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
-
-Page<Approval> approvals =
-        approvalRepository.findAllForOverallList(me.getMemberId(), me.getMemberName(), pageable);
-
-
-    // ✅ 혹시라도 이상 케이스가 있으면 여기서 한 번 더 차단 (기안중은 작성자만)
-    List<ProgressListResponseDto> filtered = approvals.getContent().stream()
-            .filter(a -> !"기안중".equals(a.getApprovalStatus()) || Objects.equals(a.getRegId(), me.getMemberId()))
-            // (기존 날짜/키워드 필터 로직 이어서)
-            .filter(a -> {
-                if (from != null && a.getRegDate().toLocalDate().isBefore(from)) return false;
-                if (to != null && a.getRegDate().toLocalDate().isAfter(to)) return false;
-                if (keyword == null || keyword.isBlank()) return true;
-
-                ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                String title = detail != null ? String.valueOf(detail.getApprovalTitle()) : "";
-                String type = detail != null ? String.valueOf(detail.getApprovalType()) : "";
-                String drafter = a.getApprovalName() != null ? a.getApprovalName() : "";
-                String department = a.getApprovalDepartment() != null ? a.getApprovalDepartment() : "";
-                String signerIds = String.join(",",
-                        Arrays.asList(a.getSignId1(), a.getSignId2(), a.getSignId3(), a.getSignId4(), a.getSignId5())
-                                .stream().filter(Objects::nonNull).toList());
-                String lower = keyword.toLowerCase();
-
-                return title.toLowerCase().contains(lower)
-                        || type.toLowerCase().contains(lower)
-                        || drafter.toLowerCase().contains(lower)
-                        || department.toLowerCase().contains(lower)
-                        || signerIds.toLowerCase().contains(lower)
-                        || (a.getApprovalStatus() != null && a.getApprovalStatus().toLowerCase().contains(lower));
-            })
-            .map(a -> {
-                ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                String currentSigner = getCurrentSigner(a);
-                return new ProgressListResponseDto(
-                        a.getApprovalNo(),
-                        a.getRegDate(),
-                        detail != null ? detail.getApprovalTitle() : null,
-                        detail != null ? detail.getApprovalType() : null,
-                        a.getApprovalDepartment(),
-                        a.getApprovalName(),
-                        currentSigner,
-                        a.getApprovalStatus()
-                );
-            })
-            .toList();
+    // 목록 건수 (PROGRESS_COUNT 캐시, 같은 조건이면 TTL 동안 재사용)
+    private Long approximateCount(ListFilter f) {
 
-    // 서버에서 받은 전체 개수 사용 (필터링 전 개수이지만, 실제로는 필터링 후에도 비슷할 것으로 예상)
-    return new PageImpl<>(filtered, pageable, approvals.getTotalElements());
-}
+        Cache cache = cacheManager.getCache(CacheConfig.PROGRESS_COUNT);
+        return cache.get(f, () -> approvalRepository.countProgressList(f.type().getScope(),
+                f.memberId(), f.from(), f.to(), f.keyword(), f.statuses()));
+    }
 
+    // 커서 -> base64url("regDate|approvalNo"), 클라이언트는 값을 해석하지 않고 그대로 돌려보냄
+    private String encodeCursor(ApprovalListRowDto last) {
 
-    // 진행목록(진행중) - 내가 기안한 문서 + 결재할 문서
-    public Page<ProgressListResponseDto> getInProgressApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
+        String raw = last.regDate() + "|" + last.approvalNo();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        // 로그인한 유저의 memberId 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member me = memberRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
-
-        Page<Approval> approvals = approvalRepository.findInprogressApprovals(me.getMemberId(), me.getMemberName(), pageable);
-
-        List<ProgressListResponseDto> filtered = approvals.getContent().stream()
-                .filter(a -> {
-                    // 날짜 필터
-                    if (from != null && a.getRegDate().toLocalDate().isBefore(from)) return false;
-                    if (to != null && a.getRegDate().toLocalDate().isAfter(to)) return false;
-
-                    // 키워드 필터
-                    if (keyword != null && !keyword.isBlank()) {
-                        ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                        String title = detail != null ? detail.getApprovalTitle() : "";
-                        String type = detail != null ? detail.getApprovalType() : "";
-                        String drafter = a.getApprovalName() != null ? a.getApprovalName() : "";
-                        String department = a.getApprovalDepartment() != null ? a.getApprovalDepartment() : "";
-                        String signerIds = String.join(",",
-                                Arrays.asList(a.getSignId1(), a.getSignId2(), a.getSignId3(), a.getSignId4(), a.getSignId5())
-                                        .stream().filter(Objects::nonNull).toList()
-                        );
-                        String lowerKeyword = keyword.toLowerCase();
-                        boolean matchKeyword = title.toLowerCase().contains(lowerKeyword)
-                                || type.toLowerCase().contains(lowerKeyword)
-                                || drafter.toLowerCase().contains(lowerKeyword)
-                                || department.toLowerCase().contains(lowerKeyword)
-                                || signerIds.toLowerCase().contains(lowerKeyword)
-                                || (a.getApprovalStatus() != null && a.getApprovalStatus().toLowerCase().contains(lowerKeyword));
-
-                        if (!matchKeyword) return false;
-                    }
+    private ListCursor decodeCursor(String cursor) {
 
-                    return true;
-                })
-                .map(a -> {
-                    ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                    String currentSigner = getCurrentSigner(a);
-                    return new ProgressListResponseDto(
-                            a.getApprovalNo(),
-                            a.getRegDate(),
-                            detail != null ? detail.getApprovalTitle() : null,
-                            detail != null ? detail.getApprovalType() : null,
-                            a.getApprovalDepartment(),
-                            a.getApprovalName(),
-                            currentSigner,
-                            a.getApprovalStatus()
-                    );
-                })
-                .toList();
+        if (cursor == null || cursor.isBlank()) return FIRST_CURSOR;
 
-        return new PageImpl<>(filtered, pageable, approvals.getTotalElements());
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new ListCursor(LocalDateTime.parse(raw.substring(0, sep)), Integer.parseInt(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException(messageUtil.getMessage("error.invalid.request"));
+        }
     }
 
-    // 진행목록(기안중)
-    public Page<ProgressListResponseDto> getTemporarySavedApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
+    // 커서 위치 (직전 페이지 마지막 행)
+    private record ListCursor(LocalDateTime regDate, int approvalNo) {}
 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
-
-        Page<Approval> approvals = approvalRepository.findTemporarySavedApprovals(member.getMemberId(), pageable);
-
-        List<ProgressListResponseDto> filtered = approvals.getContent().stream()
-                .filter(a -> {
-
-                    // 날짜 필터
-                    if (from != null && a.getRegDate().toLocalDate().isBefore(from)) return false;
-                    if (to != null && a.getRegDate().toLocalDate().isAfter(to)) return false;
-
-                    // 키워드 필터
-                    if (keyword != null && !keyword.isBlank()) {
-                        ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                        String title = detail != null ? detail.getApprovalTitle() : "";
-                        String type = detail != null ? detail.getApprovalType() : "";
-                        String drafter = a.getApprovalName() != null ? a.getApprovalName() : "";
-                        String department = a.getApprovalDepartment() != null ? a.getApprovalDepartment() : "";
-                        String signerIds = String.join(",",
-                                Arrays.asList(a.getSignId1(), a.getSignId2(), a.getSignId3(), a.getSignId4(), a.getSignId5())
-                                        .stream().filter(Objects::nonNull).toList()
-                        );
-                        String lowerKeyword = keyword.toLowerCase();
-                        boolean matchKeyword = title.toLowerCase().contains(lowerKeyword)
-                                || type.toLowerCase().contains(lowerKeyword)
-                                || drafter.toLowerCase().contains(lowerKeyword)
-                                || department.toLowerCase().contains(lowerKeyword)
-                                || signerIds.toLowerCase().contains(lowerKeyword)
-                                || (a.getApprovalStatus() != null && a.getApprovalStatus().toLowerCase().contains(lowerKeyword));
-
-                        if (!matchKeyword) return false;
-                    }
+    // 목록 조회 조건 (건수 캐시 키 겸용)
+    private record ListFilter(ProgressListType type, String memberId, LocalDateTime from, LocalDateTime to,
+            String keyword, List<ApprovalStatus> statuses) {}
 
-                    return true;
-                })
-                .map(a -> {
-                    ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                    String currentSigner = getCurrentSigner(a);
-                    return new ProgressListResponseDto(
-                            a.getApprovalNo(),
-                            a.getRegDate(),
-                            detail != null ? detail.getApprovalTitle() : null,
-                            detail != null ? detail.getApprovalType() : null,
-                            a.getApprovalDepartment(),
-                            a.getApprovalName(),
-                            currentSigner,
-                            a.getApprovalStatus()
-                    );
-                })
-                .toList();
+    // 진행목록 공통: 필터/페이징/상세 조인은 DB에서 끝났으므로 페이지의 결재라인만 한 번에 조회해서 매핑
+    private Page<ProgressListResponseDto> toProgressPage(Page<ApprovalListRowDto> approvals) {
 
-        return new PageImpl<>(filtered, pageable, approvals.getTotalElements());
+        return new PageImpl<>(toProgressList(approvals.getContent()), approvals.getPageable(), approvals.getTotalElements());
     }
 
-    // 진행목록(반려)
-   public Page<ProgressListResponseDto> getReturnedApprovals(
-    Pageable pageable, LocalDate from, LocalDate to, String keyword) {
-
-  String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-  Member member = memberRepository.findByMemberId(loginId)
-      .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
-
-  // ✅ 반려 전용 쿼리 호출 (전체 쿼리 호출 금지!)
-  Page<Approval> approvals =
-      approvalRepository.findReturnedApprovals(member.getMemberId(), member.getMemberName(), pageable);
-
-  List<ProgressListResponseDto> filtered = approvals.getContent().stream()
-      // 안전망: 혹시라도 잘못 내려온 데이터 걸러주기
-      .filter(a -> "반려".equals(a.getApprovalStatus()))
-      // (기존 날짜/키워드 필터 & DTO 매핑 그대로)
-      .map(a -> {
-        ApprovalDetail d = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-        String currentSigner = getCurrentSigner(a);
-        return new ProgressListResponseDto(
-            a.getApprovalNo(),
-            a.getRegDate(),
-            d != null ? d.getApprovalTitle() : null,
-            d != null ? d.getApprovalType()  : null,
-            a.getApprovalDepartment(),
-            a.getApprovalName(),
-            currentSigner,
-            a.getApprovalStatus()
-        );
-      })
-      .toList();
+    private List<ProgressListResponseDto> toProgressList(List<ApprovalListRowDto> rows) {
 
-  // 레포에서 이미 상태로 필터했으면 count는 approvals.getTotalElements() 유지해도 됨
-  return new PageImpl<>(filtered, pageable, approvals.getTotalElements());
-}
+        Map<Integer, List<SignerStatusDto>> signers = loadSigners(rows);
+        return rows.stream()
+                .map(row -> toProgressListDto(row, signers.getOrDefault(row.approvalNo(), List.of())))
+                .toList();
+    }
 
+    // approvalNo -> 결재라인 (IN 쿼리 1회, 결재 순서대로)
+    private Map<Integer, List<SignerStatusDto>> loadSigners(List<ApprovalListRowDto> rows) {
 
-    // 진행목록(완료)
-    public Page<ProgressListResponseDto> getCompletedApprovals(Pageable pageable, LocalDate from, LocalDate to, String keyword) {
+        if (rows.isEmpty()) return Map.of();
 
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
+        List<Integer> approvalNos = rows.stream().map(ApprovalListRowDto::approvalNo).toList();
+        return approvalSignerRepository.findStatusByApprovalNoIn(approvalNos).stream()
+                .collect(Collectors.groupingBy(SignerStatusDto::approvalNo));
+    }
 
-        Page<Approval> approvals = approvalRepository.findCompletedApprovals(memberId, member.getMemberName(), pageable);
-        
-        List<ProgressListResponseDto> filtered = approvals.getContent().stream()
-                .filter(a -> {
-
-                    // 날짜 필터
-                    if (from != null && a.getRegDate().toLocalDate().isBefore(from)) return false;
-                    if (to != null && a.getRegDate().toLocalDate().isAfter(to)) return false;
-
-                    // 키워드 필터
-                    if (keyword != null && !keyword.isBlank()) {
-                        ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                        String title = detail != null ? detail.getApprovalTitle() : "";
-                        String type = detail != null ? detail.getApprovalType() : "";
-                        String drafter = a.getApprovalName() != null ? a.getApprovalName() : "";
-                        String department = a.getApprovalDepartment() != null ? a.getApprovalDepartment() : "";
-                        String signerIds = String.join(",",
-                                Arrays.asList(a.getSignId1(), a.getSignId2(), a.getSignId3(), a.getSignId4(), a.getSignId5())
-                                        .stream().filter(Objects::nonNull).toList()
-                        );
-                        String lowerKeyword = keyword.toLowerCase();
-                        boolean matchKeyword = title.toLowerCase().contains(lowerKeyword)
-                                || type.toLowerCase().contains(lowerKeyword)
-                                || drafter.toLowerCase().contains(lowerKeyword)
-                                || department.toLowerCase().contains(lowerKeyword)
-                                || signerIds.toLowerCase().contains(lowerKeyword)
-                                || (a.getApprovalStatus() != null && a.getApprovalStatus().toLowerCase().contains(lowerKeyword));
-
-                        if (!matchKeyword) return false;
-                    }
+    // 기간 시작 (from 당일 00:00 포함)
+    private LocalDateTime startOf(LocalDate from) {
+        return from != null ? from.atStartOfDay() : null;
+    }
 
-                    return true;
-                })
-                .map(a -> {
-                    ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(a.getApprovalNo()).orElse(null);
-                    String currentSigner = getCurrentSigner(a);
-                    return new ProgressListResponseDto(
-                            a.getApprovalNo(),
-                            a.getRegDate(),
-                            detail != null ? detail.getApprovalTitle() : null,
-                            detail != null ? detail.getApprovalType() : null,
-                            a.getApprovalDepartment(),
-                            a.getApprovalName(),
-                            currentSigner,
-                            a.getApprovalStatus()
-                    );
-                })
-                .toList();
+    // 기간 끝 (to 다음날 00:00 미만)
+    private LocalDateTime endOf(LocalDate to) {
+        return to != null ? to.plusDays(1).atStartOfDay() : null;
+    }
+
+    // 키워드 -> 대소문자 무시 부분일치 패턴 (%, _ 는 문자 그대로 검색)
+    private String toLikePattern(String keyword) {
 
-        return new PageImpl<>(filtered, pageable, approvals.getTotalElements());
+        if (keyword == null || keyword.isBlank()) return null;
+
+        String escaped = keyword.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private ProgressListResponseDto toProgressListDto(ApprovalListRowDto row, List<SignerStatusDto> signers) {
+
+        return new ProgressListResponseDto(
+                row.approvalNo(),
+                row.regDate(),
+                row.approvalTitle(),
+                row.approvalType(),
+                row.approvalDepartment(),
+                row.approvalName(),
+                getCurrentSigner(row.approvalStatus(), signers),
+                row.approvalStatus().getLabel()
+        );
     }
 
     // 첨언
     @Transactional
-    public void addComment(int approvalNo, CommentRequestDto dto, List<MultipartFile> files) {
+    public void addComment(int approvalNo, CommentRequestDto dto, List<StoredFileDto> files) {
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        System.out.println("[첨언] 로그인 memberId: " + memberId);
 
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
         Approval approval = approvalRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found")));
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.document.not.exists")));
 
         boolean isDrafter = memberId.equals(approval.getApprovalId()); // 기안자
-        System.out.println("[첨언] isDrafter: " + isDrafter + " (memberId=" + memberId + ", approvalId=" + approval.getApprovalId() + ")");
         
-        // 결재자 확인 - 결재라인 전체(signId1~5) 확인
-        String memberName = member.getMemberName();
-        System.out.println("[첨언] memberName: " + memberName);
-        System.out.println("[첨언] signId1~5: " + approval.getSignId1() + ", " + approval.getSignId2() + ", " + approval.getSignId3() + ", " + approval.getSignId4() + ", " + approval.getSignId5());
+        // 결재자 확인 - 결재라인 전체 확인
+        ApprovalSigner signer = findSigner(approvalNo, memberId);
+        boolean isSigner = signer != null;
         
-        boolean isSigner = memberName.equals(approval.getSignId1()) ||
-                          memberName.equals(approval.getSignId2()) ||
-                          memberName.equals(approval.getSignId3()) ||
-                          memberName.equals(approval.getSignId4()) ||
-                          memberName.equals(approval.getSignId5());
-        System.out.println("[첨언] isSigner: " + isSigner);
-        
-        // 참조자 확인 - referenceId는 쉼표로 구분된 여러 사람일 수 있음
-        boolean referencer = false;
-        if (approval.getReferenceId() != null && !approval.getReferenceId().isEmpty()) {
-            String[] referenceIds = approval.getReferenceId().split(",");
-            for (String refId : referenceIds) {
-                if (memberName.equals(refId.trim())) {
-                    referencer = true;
-                    break;
-                }
-            }
-        }
-        System.out.println("[첨언] referencer: " + referencer);
+        // 참조자 확인
+        ApprovalReference reference = approvalReferenceRepository.findByApprovalNoAndMemberId(approvalNo, memberId).orElse(null);
+        boolean referencer = reference != null;
+        log.debug("[첨언] approvalNo={}, memberId={}, drafter={}, signer={}, reference={}", approvalNo, memberId, isDrafter, isSigner, referencer);
 
         if (!isDrafter && !isSigner && !referencer) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.approval.comment.no.permission"));
         }
 
         // ----- 댓글 저장 -----
-        System.out.println("[첨언] 댓글 저장 시작 - comment: " + dto.getComment());
         if(isSigner) {
-            System.out.println("[첨언] 결재자로 댓글 저장");
-            if (memberName.equals(approval.getSignId1())) { approval.setSignRemark1(dto.getComment()); System.out.println("[첨언] signRemark1에 저장"); }
-            else if (memberName.equals(approval.getSignId2())) { approval.setSignRemark2(dto.getComment()); System.out.println("[첨언] signRemark2에 저장"); }
-            else if (memberName.equals(approval.getSignId3())) { approval.setSignRemark3(dto.getComment()); System.out.println("[첨언] signRemark3에 저장"); }
-            else if (memberName.equals(approval.getSignId4())) { approval.setSignRemark4(dto.getComment()); System.out.println("[첨언] signRemark4에 저장"); }
-            else if (memberName.equals(approval.getSignId5())) { approval.setSignRemark5(dto.getComment()); System.out.println("[첨언] signRemark5에 저장"); }
-            else throw new IllegalArgumentException(messageUtil.getMessage("error.approval.signer.mismatch"));
+            log.debug("[첨언] 결재자로 댓글 저장 - seq {}", signer.getSeq());
+            signer.setRemark(dto.getComment());
 
         } else if (isDrafter) {
-            System.out.println("[첨언] 기안자로 댓글 저장 - drafterRemark");
+            log.debug("[첨언] 기안자로 댓글 저장 - drafterRemark");
             detail.setDrafterRemark(dto.getComment());
         } else if (referencer) {
-            System.out.println("[첨언] 참조자로 댓글 저장 - referenceRemark");
+            log.debug("[첨언] 참조자로 댓글 저장 - referenceRemark");
             detail.setReferenceRemark(dto.getComment());
         }
 
-
-        // ===== 파일 업로드 =====
-        if (files != null && !files.isEmpty()) {
-
-            for (MultipartFile file : files) {
-                if (file.isEmpty()) continue;
-
-                try {
-                    // 파일명 중복 방지
-                    String savedFileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-                    Path savePath = Paths.get(uploadDir, savedFileName);
-                    Files.createDirectories(savePath.getParent());
-                    file.transferTo(savePath.toFile());
-
-                    String info = isDrafter ? "기안자첨언" : (isSigner ? memberName + " (결재자)" : memberName + " (참조자)");
-
-                    // ===== 기안자 첨언 =====
-                    if (isDrafter) {
-                        List<String> attachFiles = new ArrayList<>(Arrays.asList(
-                                detail.getApprovalAttachFile1(),
-                                detail.getApprovalAttachFile2(),
-                                detail.getApprovalAttachFile3(),
-                                detail.getApprovalAttachFile4(),
-                                detail.getApprovalAttachFile5()
-                        ));
-
-                        // 비어있는 첫 번째 슬롯 탐색
-                        int slotIndex = -1;
-                        for (int j = 0; j < attachFiles.size(); j++) {
-                            if (attachFiles.get(j) == null) {
-                                slotIndex = j;
-                                break;
-                            }
-                        }
-
-                        // 슬롯이 없으면 업로드 불가
-                        if (slotIndex == -1) {
-                            throw new RuntimeException(messageUtil.getMessage("error.approval.file.max.exceeded"));
-                        }
-
-                        switch (slotIndex) {
-                            case 0 -> { detail.setApprovalAttachFile1(savedFileName); detail.setApprovalAttachPath1(uploadDir); detail.setApprovalAttachInfo1(info); }
-                            case 1 -> { detail.setApprovalAttachFile2(savedFileName); detail.setApprovalAttachPath2(uploadDir); detail.setApprovalAttachInfo2(info); }
-                            case 2 -> { detail.setApprovalAttachFile3(savedFileName); detail.setApprovalAttachPath3(uploadDir); detail.setApprovalAttachInfo3(info); }
-                            case 3 -> { detail.setApprovalAttachFile4(savedFileName); detail.setApprovalAttachPath4(uploadDir); detail.setApprovalAttachInfo4(info); }
-                            case 4 -> { detail.setApprovalAttachFile5(savedFileName); detail.setApprovalAttachPath5(uploadDir); detail.setApprovalAttachInfo5(info); }
-                        }
-
+        // ===== 첨부파일 (트랜잭션 전에 AttachmentStore 에서 저장 완료, 메타데이터만 기록) =====
+        for (StoredFileDto file : files) {
+            if (file == null) continue;
+
+            String info = isDrafter ? "기안자첨언" : (isSigner ? signer.getMemberName() + " (결재자)" : reference.getMemberName() + " (참조자)");
+
+            // ===== 기안자 첨언 =====
+            if (isDrafter) {
+                List<String> attachFiles = new ArrayList<>(Arrays.asList(
+                        detail.getApprovalAttachFile1(),
+                        detail.getApprovalAttachFile2(),
+                        detail.getApprovalAttachFile3(),
+                        detail.getApprovalAttachFile4(),
+                        detail.getApprovalAttachFile5()
+                ));
+
+                // 비어있는 첫 번째 슬롯 탐색
+                int slotIndex = -1;
+                for (int j = 0; j < attachFiles.size(); j++) {
+                    if (attachFiles.get(j) == null) {
+                        slotIndex = j;
+                        break;
                     }
-                    // ===== 결재자 첨언 =====
-                    else if (isSigner) {
+                }
+
+                // 슬롯이 없으면 업로드 불가
+                if (slotIndex == -1) {
+                    throw new RuntimeException(messageUtil.getMessage("error.approval.file.max.exceeded"));
+                }
 
-                        // 이미 첨부파일이 존재하면 예외
-                        if (detail.getSignerAttachFile() != null) {
-                            throw new RuntimeException(messageUtil.getMessage("error.approval.file.signer.limit"));
-                        }
+                switch (slotIndex) {
+                    case 0 -> { detail.setApprovalAttachFile1(file.fileName()); detail.setApprovalAttachPath1(file.sha256()); detail.setApprovalAttachInfo1(info); }
+                    case 1 -> { detail.setApprovalAttachFile2(file.fileName()); detail.setApprovalAttachPath2(file.sha256()); detail.setApprovalAttachInfo2(info); }
+                    case 2 -> { detail.setApprovalAttachFile3(file.fileName()); detail.setApprovalAttachPath3(file.sha256()); detail.setApprovalAttachInfo3(info); }
+                    case 3 -> { detail.setApprovalAttachFile4(file.fileName()); detail.setApprovalAttachPath4(file.sha256()); detail.setApprovalAttachInfo4(info); }
+                    case 4 -> { detail.setApprovalAttachFile5(file.fileName()); detail.setApprovalAttachPath5(file.sha256()); detail.setApprovalAttachInfo5(info); }
+                }
+                attachmentStore.acquire(file);
 
-                        detail.setSignerAttachFile(savedFileName);
-                        detail.setSignerAttachPath(uploadDir);
-                        detail.setSignerAttachInfo(info);
-                    }
-                    // ===== 참조자 첨언 =====
-                    else if (referencer) {
+            }
+            // ===== 결재자 첨언 =====
+            else if (isSigner) {
 
-                        if (detail.getReferenceAttachFile() != null) {
-                            throw new RuntimeException(messageUtil.getMessage("error.approval.file.reference.limit"));
-                        }
+                // 이미 첨부파일이 존재하면 예외
+                if (detail.getSignerAttachFile() != null) {
+                    throw new RuntimeException(messageUtil.getMessage("error.approval.file.signer.limit"));
+                }
 
-                        detail.setReferenceAttachFile(savedFileName);
-                        detail.setReferenceAttachPath(uploadDir);
-                        detail.setReferenceAttachInfo(info);
-                    }
+                attachmentStore.acquire(file);
+                detail.setSignerAttachFile(file.fileName());
+                detail.setSignerAttachPath(file.sha256());
+                detail.setSignerAttachInfo(info);
+            }
+            // ===== 참조자 첨언 =====
+            else if (referencer) {
 
-                } catch (IOException e) {
-                    throw new RuntimeException(messageUtil.getMessage("error.file.save.failed") + ": " + file.getOriginalFilename(), e);
+                if (detail.getReferenceAttachFile() != null) {
+                    throw new RuntimeException(messageUtil.getMessage("error.approval.file.reference.limit"));
                 }
+
+                attachmentStore.acquire(file);
+                detail.setReferenceAttachFile(file.fileName());
+                detail.setReferenceAttachPath(file.sha256());
+                detail.setReferenceAttachInfo(info);
             }
         }
 
-
         approval.setUpdateId(memberId);
         approval.setUpdateDate(LocalDateTime.now());
         detail.setUpdateId(memberId);
         detail.setUpdateDate(LocalDateTime.now());
 
-        System.out.println("[첨언] DB 저장 시작");
         approvalRepository.save(approval);
-        System.out.println("[첨언] approval 테이블 저장 완료");
         approvalDetailRepository.save(detail);
-        System.out.println("[첨언] approval_detail 테이블 저장 완료");
     }
 
     // 첨언 수정
@@ -590,32 +426,17 @@ Page<Approval> approvals =
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException("멤버를 찾을 수 없습니다."));
         Approval approval = approvalRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException("문서가 존재하지 않습니다."));
 
         boolean isDrafter = memberId.equals(approval.getApprovalId());
-        String memberName = member.getMemberName();
         
-        boolean isSigner = memberName.equals(approval.getSignId1()) ||
-                          memberName.equals(approval.getSignId2()) ||
-                          memberName.equals(approval.getSignId3()) ||
-                          memberName.equals(approval.getSignId4()) ||
-                          memberName.equals(approval.getSignId5());
+        ApprovalSigner signer = findSigner(approvalNo, memberId);
+        boolean isSigner = signer != null;
         
-        boolean referencer = false;
-        if (approval.getReferenceId() != null && !approval.getReferenceId().isEmpty()) {
-            String[] referenceIds = approval.getReferenceId().split(",");
-            for (String refId : referenceIds) {
-                if (memberName.equals(refId.trim())) {
-                    referencer = true;
-                    break;
-                }
-            }
-        }
+        boolean referencer = approvalReferenceRepository.existsByApprovalNoAndMemberId(approvalNo, memberId);
 
         if (!isDrafter && !isSigner && !referencer) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.approval.comment.no.permission"));
@@ -623,12 +444,7 @@ Page<Approval> approvals =
 
         // 댓글 수정
         if(isSigner) {
-            if (memberName.equals(approval.getSignId1())) approval.setSignRemark1(dto.getComment());
-            else if (memberName.equals(approval.getSignId2())) approval.setSignRemark2(dto.getComment());
-            else if (memberName.equals(approval.getSignId3())) approval.setSignRemark3(dto.getComment());
-            else if (memberName.equals(approval.getSignId4())) approval.setSignRemark4(dto.getComment());
-            else if (memberName.equals(approval.getSignId5())) approval.setSignRemark5(dto.getComment());
-            else throw new IllegalArgumentException(messageUtil.getMessage("error.approval.signer.mismatch"));
+            signer.setRemark(dto.getComment());
         } else if (isDrafter) {
             detail.setDrafterRemark(dto.getComment());
         } else if (referencer) {
@@ -650,32 +466,17 @@ Page<Approval> approvals =
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException("멤버를 찾을 수 없습니다."));
         Approval approval = approvalRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
         ApprovalDetail detail = approvalDetailRepository.findByApprovalNo(approvalNo)
             .orElseThrow(() -> new IllegalArgumentException("문서가 존재하지 않습니다."));
 
         boolean isDrafter = memberId.equals(approval.getApprovalId());
-        String memberName = member.getMemberName();
         
-        boolean isSigner = memberName.equals(approval.getSignId1()) ||
-                          memberName.equals(approval.getSignId2()) ||
-                          memberName.equals(approval.getSignId3()) ||
-                          memberName.equals(approval.getSignId4()) ||
-                          memberName.equals(approval.getSignId5());
+        ApprovalSigner signer = findSigner(approvalNo, memberId);
+        boolean isSigner = signer != null;
         
-        boolean referencer = false;
-        if (approval.getReferenceId() != null && !approval.getReferenceId().isEmpty()) {
-            String[] referenceIds = approval.getReferenceId().split(",");
-            for (String refId : referenceIds) {
-                if (memberName.equals(refId.trim())) {
-                    referencer = true;
-                    break;
-                }
-            }
-        }
+        boolean referencer = approvalReferenceRepository.existsByApprovalNoAndMemberId(approvalNo, memberId);
 
         if (!isDrafter && !isSigner && !referencer) {
             throw new IllegalArgumentException(messageUtil.getMessage("error.approval.comment.no.permission"));
@@ -683,14 +484,10 @@ Page<Approval> approvals =
 
         // 댓글 삭제 (null로 설정)
         if(isSigner) {
-            if (memberName.equals(approval.getSignId1())) approval.setSignRemark1(null);
-            else if (memberName.equals(approval.getSignId2())) approval.setSignRemark2(null);
-            else if (memberName.equals(approval.getSignId3())) approval.setSignRemark3(null);
-            else if (memberName.equals(approval.getSignId4())) approval.setSignRemark4(null);
-            else if (memberName.equals(approval.getSignId5())) approval.setSignRemark5(null);
-            else throw new IllegalArgumentException(messageUtil.getMessage("error.approval.signer.mismatch"));
+            signer.setRemark(null);
             
-            // 결재자 첨부파일도 삭제
+            // 결재자 첨부파일도 삭제 (참조 해제)
+            attachmentStore.release(detail.getSignerAttachPath());
             detail.setSignerAttachFile(null);
             detail.setSignerAttachPath(null);
             detail.setSignerAttachInfo(null);
@@ -698,7 +495,8 @@ Page<Approval> approvals =
             detail.setDrafterRemark(null);
         } else if (referencer) {
             detail.setReferenceRemark(null);
-            // 참조자 첨부파일도 삭제
+            // 참조자 첨부파일도 삭제 (참조 해제)
+            attachmentStore.release(detail.getReferenceAttachPath());
             detail.setReferenceAttachFile(null);
             detail.setReferenceAttachPath(null);
             detail.setReferenceAttachInfo(null);
@@ -713,115 +511,69 @@ Page<Approval> approvals =
         approvalDetailRepository.save(detail);
     }
 
-    // 승인
-    @Transactional
-    public void doApproval(int approvalNo) {
+    // 내가 결재할 문서 실시간 알림 구독
+    public SseEmitter subscribePending() {
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
 
-        Approval approval = approvalRepository.findByApprovalNo(approvalNo)
-            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found")));
-
-        if (!member.getMemberName().equals(approval.getNextId())) {
-            throw new IllegalArgumentException(messageUtil.getMessage("error.approval.not.current.signer"));
-        }
+        long pendingCount = approvalRepository.countByNextIdAndApprovalStatus(memberId, ApprovalStatus.IN_PROGRESS);
+        return approvalStreamService.subscribe(memberId, pendingCount);
+    }
 
-        // 결재 1
-        if (member.getMemberName().equals(approval.getSignId1()) && approval.getSignDate1() == null) {
-            approval.setSignDate1(LocalDateTime.now());
-            if (approval.getSignId2() != null && !approval.getSignId2().isBlank()) {
-                approval.setNextId(approval.getSignId2());
-            } else {
-                approval.setNextId(null);
-                approval.setApprovalStatus("완료");
-            }
-        }
-        // 결재 2
-        else if (member.getMemberName().equals(approval.getSignId2()) && approval.getSignDate2() == null) {
-            approval.setSignDate2(LocalDateTime.now());
-            if (approval.getSignId3() != null && !approval.getSignId3().isBlank()) {
-                approval.setNextId(approval.getSignId3());
-            } else {
-                approval.setNextId(null);
-                approval.setApprovalStatus("완료");
-            }
-        }
-        // 결재 3
-        else if (member.getMemberName().equals(approval.getSignId3()) && approval.getSignDate3() == null) {
-            approval.setSignDate3(LocalDateTime.now());
-            if (approval.getSignId4() != null && !approval.getSignId4().isBlank()) {
-                approval.setNextId(approval.getSignId4());
-            } else {
-                approval.setNextId(null);
-                approval.setApprovalStatus("완료");
-            }
-        }
-        // 결재 4
-        else if (member.getMemberName().equals(approval.getSignId4()) && approval.getSignDate4() == null) {
-            approval.setSignDate4(LocalDateTime.now());
-            if (approval.getSignId5() != null && !approval.getSignId5().isBlank()) {
-                approval.setNextId(approval.getSignId5());
-            } else {
-                approval.setNextId(null);
-                approval.setApprovalStatus("완료");
-            }
-        }
-        // 결재 5 (무조건 완료 처리)
-        else if (member.getMemberName().equals(approval.getSignId5()) && approval.getSignDate5() == null) {
-            approval.setSignDate5(LocalDateTime.now());
-            approval.setNextId(null);
-            approval.setApprovalStatus("완료");
-        }
-        else {
-            throw new IllegalArgumentException(messageUtil.getMessage("error.approval.already.approved"));
-        }
+    // 승인 (다음 결재자가 있으면 넘기고, 마지막 결재자면 완료 처리)
+    @Transactional
+    public void doApproval(int approvalNo) {
 
-        approval.setUpdateId(memberId);
-        approval.setUpdateDate(LocalDateTime.now());
-        approvalRepository.save(approval);
+        sign(approvalNo, ApprovalAction.APPROVE);
     }
 
 
     // 반려
     @Transactional
     public void doReject(int approvalNo) {
-        
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member member = memberRepository.findByMemberId(memberId)
-            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.member.not.found")));
 
-        Approval approval = approvalRepository.findByApprovalNo(approvalNo)
-                .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found")));
+        sign(approvalNo, ApprovalAction.REJECT);
+    }
 
-        if (!member.getMemberName().equals(approval.getNextId())) {
-            throw new IllegalArgumentException(messageUtil.getMessage("error.approval.not.current.signer"));
-        }
+    // 결재자 승인/반려 - 검증은 일괄 처리와 같은 ApprovalStateMachine.planSign
+    private void sign(int approvalNo, ApprovalAction decision) {
 
-        if (member.getMemberName().equals(approval.getSignId1()) && approval.getSignDate1() == null) {
+        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
 
-            approval.setSignDate1(LocalDateTime.now());
-        } else if (member.getMemberName().equals(approval.getSignId2()) && approval.getSignDate2() == null) {
+        Approval approval = approvalRepository.findByApprovalNo(approvalNo)
+            .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.approval.not.found")));
 
-            approval.setSignDate2(LocalDateTime.now());
-        } else if (member.getMemberName().equals(approval.getSignId3()) && approval.getSignDate3() == null) {
+        ApprovalSignPlan plan = approvalStateMachine.planSign(approval,
+            approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo), decision, memberId);
 
-            approval.setSignDate3(LocalDateTime.now());
-        } else if (member.getMemberName().equals(approval.getSignId4()) && approval.getSignDate4() == null) {
+        LocalDateTime now = LocalDateTime.now();
+        apply(plan.transition(), plan.nextId(), now);
+        // 같은 사람이 연속 순번이면 문서 조건부 저장은 중복 요청도 통과하므로 결재 순번 기록으로 한 번 더 확인
+        if (approvalSignerRepository.markSigned(approvalNo, plan.signer().getSeq(), now) == 0) {
+            throw new OptimisticLockingFailureException(messageUtil.getMessage("error.approval.conflict"));
+        }
+        approvalStateMachine.fire(plan.transition());
+    }
 
-            approval.setSignDate4(LocalDateTime.now());
-        } else if (member.getMemberName().equals(approval.getSignId5()) && approval.getSignDate5() == null) {
+    // 전이 조건부 저장 (조회 이후 다른 요청이 먼저 처리했으면 409) - 훅에서 쓰도록 메모리의 문서도 맞춤
+    private void apply(ApprovalTransition transition, String nextId, LocalDateTime now) {
 
-            approval.setSignDate5(LocalDateTime.now());
+        Approval approval = transition.approval();
+        int updated = approvalRepository.compareAndSetStatus(approval.getApprovalNo(), transition.from(),
+            transition.previousNextId(), transition.to(), nextId, transition.actorId(), now);
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(messageUtil.getMessage("error.approval.conflict"));
         }
+        approval.setApprovalStatus(transition.to());
+        approval.setNextId(nextId);
+    }
 
-        // 문서 상태를 반려로 변경
-        approval.setApprovalStatus("반려");
-        approval.setNextId(null);
-        approval.setUpdateId(memberId);
-        approval.setUpdateDate(LocalDateTime.now());
+    // 로그인 사용자의 결재라인 행 (첨언 대상, 결재자가 아니면 null)
+    private ApprovalSigner findSigner(int approvalNo, String memberId) {
 
-        approvalRepository.save(approval);
+        return approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo).stream()
+            .filter(signer -> memberId.equals(signer.getMemberId()))
+            .findFirst()
+            .orElse(null);
     }
 }
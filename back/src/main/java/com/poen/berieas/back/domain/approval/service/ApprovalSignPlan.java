@@ -0,0 +1,11 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+
+// 검증된 결재자 승인/반려 (signer: 처리할 결재 순번, nextId: 넘겨받을 결재자 - 완료/반려면 null)
+public record ApprovalSignPlan(
+    ApprovalTransition transition,
+    ApprovalSigner signer,
+    String nextId
+) {
+}
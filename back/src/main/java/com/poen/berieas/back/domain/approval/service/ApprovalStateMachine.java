@@ -0,0 +1,130 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.APPROVE;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.CANCEL;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.COMPLETE;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.REJECT;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.SAVE;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalAction.SUBMIT;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalStatus.COMPLETED;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalStatus.DRAFT;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalStatus.IN_PROGRESS;
+import static com.poen.berieas.back.domain.approval.entity.ApprovalStatus.REJECTED;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+import org.springframework.stereotype.Component;
+
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+// 결재 상태 전이 - 모든 상태 변경은 여기서 검증
+// - 전이표: (현재 상태, 동작) → 다음 상태, 표에 없으면 불가
+// - 가드: 동작별 실행할 수 있는 사용자 (기안자 / 현재 결재자)
+// - 훅: 저장이 끝난 전이를 알림/실시간 전송에 전달 (ApprovalTransitionListener)
+// 스프링 없이 생성해서 단위 테스트 가능
+@Component
+public class ApprovalStateMachine {
+
+    private static final Map<ApprovalStatus, Map<ApprovalAction, ApprovalStatus>> TRANSITIONS = new EnumMap<>(ApprovalStatus.class);
+
+    private static final Map<ApprovalAction, Guard> GUARDS = new EnumMap<>(ApprovalAction.class);
+
+    // 현재 상태에서 할 수 없는 동작일 때 메시지
+    private static final Map<ApprovalAction, String> INVALID_STATE_MESSAGES = new EnumMap<>(ApprovalAction.class);
+
+    static {
+        allow(DRAFT, SAVE, DRAFT);
+        allow(DRAFT, SUBMIT, IN_PROGRESS);
+        allow(IN_PROGRESS, APPROVE, IN_PROGRESS);
+        allow(IN_PROGRESS, COMPLETE, COMPLETED);
+        allow(IN_PROGRESS, REJECT, REJECTED);
+        allow(IN_PROGRESS, CANCEL, DRAFT);
+
+        // 신규 문서는 아직 기안자가 없음
+        BiPredicate<Approval, String> drafter = (approval, actorId) ->
+            approval.getApprovalId() == null || approval.getApprovalId().equals(actorId);
+        BiPredicate<Approval, String> signer = (approval, actorId) -> actorId.equals(approval.getNextId());
+
+        GUARDS.put(SAVE, new Guard(drafter, "error.approval.drafter.only"));
+        GUARDS.put(SUBMIT, new Guard(drafter, "error.approval.drafter.only"));
+        GUARDS.put(APPROVE, new Guard(signer, "error.approval.not.current.signer"));
+        GUARDS.put(COMPLETE, new Guard(signer, "error.approval.not.current.signer"));
+        GUARDS.put(REJECT, new Guard(signer, "error.approval.not.current.signer"));
+        GUARDS.put(CANCEL, new Guard(drafter, "error.approval.cancel.drafter.only"));
+
+        INVALID_STATE_MESSAGES.put(SAVE, "error.approval.not.draft");
+        INVALID_STATE_MESSAGES.put(SUBMIT, "error.approval.not.draft");
+        INVALID_STATE_MESSAGES.put(APPROVE, "error.approval.not.current.signer");
+        INVALID_STATE_MESSAGES.put(COMPLETE, "error.approval.not.current.signer");
+        INVALID_STATE_MESSAGES.put(REJECT, "error.approval.not.current.signer");
+        INVALID_STATE_MESSAGES.put(CANCEL, "error.approval.cancel.only.inprogress");
+    }
+
+    private final List<ApprovalTransitionListener> listeners;
+
+    public ApprovalStateMachine(List<ApprovalTransitionListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    private static void allow(ApprovalStatus from, ApprovalAction action, ApprovalStatus to) {
+        TRANSITIONS.computeIfAbsent(from, key -> new EnumMap<>(ApprovalAction.class)).put(action, to);
+    }
+
+    // 다음 상태 (전이표에 없으면 null)
+    public static ApprovalStatus next(ApprovalStatus from, ApprovalAction action) {
+
+        Map<ApprovalAction, ApprovalStatus> row = TRANSITIONS.get(from);
+        return row != null ? row.get(action) : null;
+    }
+
+    // 전이 검증 (가드 → 전이표) - 통과하면 저장할 전이 반환
+    public ApprovalTransition plan(Approval approval, ApprovalAction action, String actorId) {
+
+        Guard guard = GUARDS.get(action);
+        if (!guard.permits().test(approval, actorId)) {
+            throw new ApprovalTransitionException(guard.messageKey());
+        }
+
+        // 신규 문서는 기안중에서 시작
+        ApprovalStatus from = approval.getApprovalStatus() != null ? approval.getApprovalStatus() : DRAFT;
+        ApprovalStatus to = next(from, action);
+        if (to == null) {
+            throw new ApprovalTransitionException(INVALID_STATE_MESSAGES.get(action));
+        }
+        return new ApprovalTransition(approval, action, from, to, actorId, approval.getNextId());
+    }
+
+    // 결재자 승인/반려 검증 (단건/일괄 공용) - signers 는 문서의 결재라인 (순번 순)
+    // 승인: 다음 결재자가 있으면 넘기고, 마지막 결재자면 완료 / 반려: 결재 종료
+    public ApprovalSignPlan planSign(Approval approval, List<ApprovalSigner> signers, ApprovalAction decision, String actorId) {
+
+        Optional<ApprovalSigner> pending = signers.stream()
+            .filter(signer -> actorId.equals(signer.getMemberId()) && signer.getSignedAt() == null)
+            .findFirst();
+
+        ApprovalSigner next = decision == REJECT ? null
+            : pending.flatMap(signer -> signers.stream().filter(candidate -> candidate.getSeq() > signer.getSeq()).findFirst()).orElse(null);
+        ApprovalAction action = decision == REJECT ? REJECT : next != null ? APPROVE : COMPLETE;
+
+        ApprovalTransition transition = plan(approval, action, actorId);
+        ApprovalSigner signer = pending
+            .orElseThrow(() -> new ApprovalTransitionException("error.approval.already.approved"));
+
+        return new ApprovalSignPlan(transition, signer, next != null ? next.getMemberId() : null);
+    }
+
+    // 전이 저장 후 훅 실행
+    public void fire(ApprovalTransition transition) {
+        listeners.forEach(listener -> listener.onTransition(transition));
+    }
+
+    private record Guard(BiPredicate<Approval, String> permits, String messageKey) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.poen.berieas.back.domain.approval.dto.ApprovalTitleDto;
+import com.poen.berieas.back.domain.approval.dto.MyApprovalResponseDto;
+import com.poen.berieas.back.domain.approval.dto.PendingDeltaDto;
+import com.poen.berieas.back.domain.approval.dto.PendingSnapshotDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.approval.repository.ApprovalDetailRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 내가 결재할 문서 실시간 알림 (SSE 구독 관리)
+// - 연결은 서블릿 비동기 요청으로 유지 → 대기 중인 연결은 스레드를 점유하지 않음
+// - 결재 상태 변경이 커밋된 뒤에만 변경분 전송, 전송은 제한된 풀에서 실행 (느린 클라이언트가 요청 스레드를 막지 않음)
+// - 구독자 목록은 인스턴스 메모리 → 여러 대로 운영하면 해당 인스턴스에 연결된 사용자에게만 전송 (재연결 시 snapshot 으로 맞춤)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalStreamService implements ApprovalTransitionListener {
+
+    private static final String SNAPSHOT = "snapshot";
+    private static final String PENDING = "pending";
+
+    // memberId → 연결 (탭/기기별로 여러 개)
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final ApprovalDetailRepository approvalDetailRepository;
+
+    // 연결 유지 시간 (만료되면 브라우저가 자동 재연결)
+    @Value("${approval.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${approval.stream.workers:2}")
+    private int workers;
+
+    @Value("${approval.stream.queue-size:1000}")
+    private int queueSize;
+
+    // 변경분 전송 (승인/반려 등 실제 변경만, 하트비트와 대기열을 나누어 쓰지 않음)
+    private ThreadPoolExecutor executor;
+
+    // 하트비트 전송 - 구독자 전체를 한 작업에서 순회 (구독자 수와 관계없이 주기당 작업 1개)
+    private ThreadPoolExecutor heartbeatExecutor;
+
+    @PostConstruct
+    void start() {
+
+        AtomicInteger threadNo = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> daemon(runnable, "approval-stream-" + threadNo.incrementAndGet()),
+            // 전송이 밀리면 버림 (클라이언트는 재연결 시 snapshot 으로 맞춤)
+            (runnable, pool) -> log.warn("결재 알림 전송 대기열 초과, 변경분 버림"));
+
+        // 이전 순회가 아직 끝나지 않았으면 이번 주기는 건너뜀 (순회 중인 작업이 곧 같은 연결에 ping 을 보냄)
+        heartbeatExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(),
+            runnable -> daemon(runnable, "approval-stream-heartbeat"),
+            (runnable, pool) -> log.debug("이전 하트비트 순회 진행 중, 이번 주기 건너뜀"));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @PreDestroy
+    void stop() {
+
+        heartbeatExecutor.shutdown();
+        executor.shutdown();
+        emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+    }
+
+    // 구독 - 연결 직후 현재 건수 전송
+    public SseEmitter subscribe(String memberId, long pendingCount) {
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitters.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(memberId, emitter));
+        emitter.onTimeout(() -> remove(memberId, emitter));
+        emitter.onError(e -> remove(memberId, emitter));
+
+        send(memberId, emitter, SseEmitter.event().name(SNAPSHOT).data(new PendingSnapshotDto(pendingCount)));
+        return emitter;
+    }
+
+    public boolean isSubscribed(String memberId) {
+        return memberId != null && emitters.containsKey(memberId);
+    }
+
+    // 상태 전이 → 이전 결재자의 목록에서 제거, 새 결재자의 목록에 추가
+    @Override
+    public void onTransition(ApprovalTransition transition) {
+
+        Approval approval = transition.approval();
+
+        if (transition.from() == ApprovalStatus.IN_PROGRESS) {
+            pendingRemoved(transition.previousNextId(), approval.getApprovalNo());
+        }
+        if (transition.to() == ApprovalStatus.IN_PROGRESS) {
+            pendingAdded(approval.getNextId(), approval,
+                () -> approvalDetailRepository.findTitleByApprovalNo(approval.getApprovalNo()).orElse(null));
+        }
+    }
+
+    // 결재할 문서 추가 (유형/제목은 구독 중일 때만 조회, 본문 LOB 은 읽지 않음)
+    public void pendingAdded(String memberId, Approval approval, Supplier<ApprovalTitleDto> detail) {
+
+        if (!isSubscribed(memberId)) return;
+
+        ApprovalTitleDto loaded = detail.get();
+        MyApprovalResponseDto item = new MyApprovalResponseDto(
+            approval.getApprovalNo(),
+            approval.getApprovalStatus().getLabel(),
+            loaded != null ? loaded.approvalType() : null,
+            loaded != null ? loaded.approvalTitle() : null,
+            approval.getApprovalName(),
+            approval.getRegDate());
+        publishAfterCommit(memberId, new PendingDeltaDto(PendingDeltaDto.ADDED, approval.getApprovalNo(), item));
+    }
+
+    // 결재할 문서 제거 (승인/반려/기안취소)
+    public void pendingRemoved(String memberId, int approvalNo) {
+
+        if (!isSubscribed(memberId)) return;
+
+        publishAfterCommit(memberId, new PendingDeltaDto(PendingDeltaDto.REMOVED, approvalNo, null));
+    }
+
+    // 프록시/로드밸런서 유휴 연결 종료 방지 + 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${approval.stream.heartbeat:PT25S}")
+    public void heartbeat() {
+
+        heartbeatExecutor.execute(() -> emitters.forEach((memberId, set) ->
+            set.forEach(emitter -> send(memberId, emitter, SseEmitter.event().comment("ping")))));
+    }
+
+    private void publishAfterCommit(String memberId, PendingDeltaDto delta) {
+
+        Runnable push = () -> executor.execute(() -> push(memberId, delta));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push.run();
+                }
+            });
+        } else {
+            push.run();
+        }
+    }
+
+    private void push(String memberId, PendingDeltaDto delta) {
+
+        Set<SseEmitter> set = emitters.get(memberId);
+        if (set == null) return;
+
+        set.forEach(emitter -> send(memberId, emitter, SseEmitter.event().name(PENDING).data(delta)));
+    }
+
+    private void send(String memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            // 끊긴 연결
+            remove(memberId, emitter);
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // 이미 종료된 연결
+            remove(memberId, emitter);
+        }
+    }
+
+    private void remove(String memberId, SseEmitter emitter) {
+
+        emitters.computeIfPresent(memberId, (key, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+// 검증된 상태 전이 (previousNextId: 전이 전 결재자, 전이 후 결재자는 approval.nextId)
+public record ApprovalTransition(
+    Approval approval,
+    ApprovalAction action,
+    ApprovalStatus from,
+    ApprovalStatus to,
+    String actorId,
+    String previousNextId
+) {
+}
@@ -0,0 +1,17 @@
+package com.poen.berieas.back.domain.approval.service;
+
+// 전이표/가드에 맞지 않는 요청 (메시지는 컨트롤러 어드바이스에서 다국어 처리)
+public class ApprovalTransitionException extends IllegalArgumentException {
+
+    private final String messageKey;
+
+    public ApprovalTransitionException(String messageKey) {
+
+        super(messageKey);
+        this.messageKey = messageKey;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+}
@@ -0,0 +1,7 @@
+package com.poen.berieas.back.domain.approval.service;
+
+// 상태 전이가 저장된 뒤 실행되는 훅 (같은 트랜잭션 안에서 호출)
+public interface ApprovalTransitionListener {
+
+    void onTransition(ApprovalTransition transition);
+}
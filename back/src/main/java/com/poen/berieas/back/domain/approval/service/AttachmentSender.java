@@ -0,0 +1,131 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import com.poen.berieas.back.domain.approval.dto.AttachmentFileDto;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 첨부파일 다운로드 응답
+// - 조건부 요청: ETag(내용 해시) / Last-Modified 가 같으면 304
+// - Range: 단일 구간은 206 + Content-Range, 여러 구간 요청은 전체 응답 (Range 무시 허용)
+// - 전송: Tomcat sendfile 을 쓸 수 있으면 커널에서 바로 소켓으로, 아니면 FileChannel.transferTo
+@Component
+public class AttachmentSender {
+
+    // Tomcat sendfile 요청 속성 (NIO/NIO2 커넥터, useSendfile 기본값 true)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public void send(AttachmentFileDto attachment, HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Path path = attachment.path();
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        String etag = etag(attachment, length, lastModified);
+
+        // If-None-Match / If-Modified-Since (ETag, Last-Modified 헤더도 여기서 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename*=UTF-8''" + UriUtils.encode(attachment.fileName(), StandardCharsets.UTF_8));
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || start > end) {
+                        throw new IllegalArgumentException("Range not satisfiable: " + range);
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setContentLengthLong(0);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count <= 0) return;
+
+        // 서블릿이 끝난 뒤 Tomcat 이 파일 구간을 직접 전송 (힙 버퍼 복사 없음)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (count > 0) {
+                long sent = channel.transferTo(position, count, out);
+                if (sent <= 0) break;
+                position += sent;
+                count -= sent;
+            }
+        }
+    }
+
+    // 내용 주소 파일은 해시가 곧 내용이므로 강한 ETag, 기존 파일은 크기 + 수정 시각 기반 약한 ETag
+    private String etag(AttachmentFileDto attachment, long length, long lastModified) {
+
+        if (attachment.sha256() != null) {
+            return "\"" + attachment.sha256() + "\"";
+        }
+        return "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    // If-Range 가 없거나 현재 파일과 같을 때만 Range 적용 (다르면 전체 응답)
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 구간 요청은 강한 비교만 허용
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified / 1000 <= date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
+import com.poen.berieas.back.domain.approval.entity.AttachmentBlob;
+import com.poen.berieas.back.domain.approval.repository.AttachmentBlobRepository;
+import com.poen.berieas.back.util.MessageUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 첨부파일 저장소 (내용 주소: {upload-dir}/blobs/ab/cd/{sha256})
+// 트랜잭션을 열기 전에 호출해서 파일 I/O를 끝내고, 서비스는 반환된 메타데이터 기록 + 참조 수 증감만 처리
+// 같은 내용은 한 번만 저장하고, 참조 0 인 내용은 유예 기간 후 정리 작업에서 삭제
+@Component
+@RequiredArgsConstructor
+public class AttachmentStore {
+
+    // 기안서 첨부 최대 개수
+    public static final int MAX_ATTACH_FILES = 5;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PURGE_BATCH_SIZE = 500;
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final MessageUtil messageUtil;
+
+    // 같은 해시의 저장과 정리가 겹치지 않도록 (인스턴스 내 해시별 락)
+    private final Object[] locks = IntStream.range(0, 64).mapToObj(i -> new Object()).toArray();
+
+    // 파일 저장
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    // 참조 0 이 된 내용을 지우기 전 유예 기간 (업로드 후 문서 저장 전, 되돌리기 등)
+    @Value("${file.blob-purge-grace:P1D}")
+    private Duration purgeGrace;
+
+    private Path blobRoot;
+
+    // 저장 디렉터리는 기동 시 한 번만 생성
+    @PostConstruct
+    void createDirectories() throws IOException {
+        blobRoot = Paths.get(uploadDir, "blobs");
+        Files.createDirectories(blobRoot);
+    }
+
+    // 기안/임시저장 첨부 (최대 5개) - 빈 파일 자리는 null 로 유지해서 슬롯 번호를 보존
+    public List<StoredFileDto> storeDraftFiles(List<MultipartFile> files) {
+        return store(files, MAX_ATTACH_FILES);
+    }
+
+    // 첨언 첨부
+    public List<StoredFileDto> storeCommentFiles(List<MultipartFile> files) {
+        return store(files, Integer.MAX_VALUE);
+    }
+
+    // 참조 +1 (문서 저장 트랜잭션 안에서 호출)
+    public void acquire(StoredFileDto file) {
+        attachmentBlobRepository.acquire(file.sha256(), LocalDateTime.now());
+    }
+
+    // 참조 -1 (문서 저장 트랜잭션 안에서 호출, 내용 주소가 아닌 기존 경로는 무시)
+    public void release(String path) {
+        if (isBlob(path)) {
+            attachmentBlobRepository.release(path, LocalDateTime.now());
+        }
+    }
+
+    // *_attach_path 값이 내용 해시인지 (기존 데이터는 디렉터리 경로)
+    public boolean isBlob(String path) {
+        return path != null && SHA256.matcher(path).matches();
+    }
+
+    // 실제 파일 위치
+    public Path resolve(String path, String fileName) {
+        return isBlob(path) ? blobPath(path) : Paths.get(path, fileName);
+    }
+
+    // 참조 0 + 유예 기간이 지난 내용 삭제, 중단된 업로드 임시 파일도 함께 정리
+    public int purgeUnreferenced() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(purgeGrace);
+        int purged = 0;
+
+        List<String> hashes;
+        do {
+            hashes = attachmentBlobRepository.findUnreferenced(cutoff, Limit.of(PURGE_BATCH_SIZE));
+            for (String sha256 : hashes) {
+                synchronized (lockFor(sha256)) {
+                    if (attachmentBlobRepository.deleteUnreferenced(sha256, cutoff) == 1) {
+                        deleteQuietly(blobPath(sha256));
+                        purged++;
+                    }
+                }
+            }
+        } while (hashes.size() == PURGE_BATCH_SIZE);
+
+        FileTime partCutoff = FileTime.from(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+        try (Stream<Path> parts = Files.list(blobRoot)) {
+            parts.filter(part -> part.getFileName().toString().endsWith(".part"))
+                .filter(part -> {
+                    try {
+                        return Files.getLastModifiedTime(part).compareTo(partCutoff) < 0;
+                    } catch (IOException e) {
+                        return false;
+                    }
+                })
+                .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            // 다음 정리 때 다시 시도
+        }
+
+        return purged;
+    }
+
+    private List<StoredFileDto> store(List<MultipartFile> files, int maxFiles) {
+
+        List<StoredFileDto> storedFiles = new ArrayList<>();
+        if (files == null) return storedFiles;
+
+        for (int i = 0; i < files.size() && i < maxFiles; i++) {
+            MultipartFile file = files.get(i);
+            storedFiles.add(file.isEmpty() ? null : store(file));
+        }
+        return storedFiles;
+    }
+
+    private StoredFileDto store(MultipartFile file) {
+
+        // 경로 조작 방지 - 파일명 부분만 사용
+        String originalName = Paths.get(Objects.requireNonNullElse(file.getOriginalFilename(), "file")).getFileName().toString();
+
+        Path part = null;
+        try {
+            // 임시 파일에 쓰면서 해시 계산 (쓰는 도중의 파일이 보이지 않도록)
+            part = Files.createTempFile(blobRoot, ".upload-", ".part");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+
+            try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(part)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+
+            synchronized (lockFor(sha256)) {
+
+                // 행을 먼저 등록/갱신해서 정리 대상에서 제외
+                LocalDateTime now = LocalDateTime.now();
+                if (attachmentBlobRepository.touch(sha256, now) == 0) {
+                    attachmentBlobRepository.save(AttachmentBlob.builder()
+                        .sha256(sha256)
+                        .size(size)
+                        .refCount(0)
+                        .regDate(now)
+                        .updateDate(now)
+                        .build());
+                }
+
+                Path blob = blobPath(sha256);
+                if (Files.exists(blob)) {
+                    // 이미 저장된 내용 - 다시 쓰지 않음
+                    Files.delete(part);
+                } else {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(part, blob, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            return new StoredFileDto(sha256, originalName, size);
+
+        } catch (IOException e) {
+            deleteQuietly(part);
+            throw new UncheckedIOException(messageUtil.getMessage("error.file.save.failed") + ": " + originalName, e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(part);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path blobPath(String sha256) {
+        return blobRoot.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private Object lockFor(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), locks.length)];
+    }
+
+    private void deleteQuietly(Path path) {
+
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 무시
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.dto.ApprovalSettingListResponseDto;
+import com.poen.berieas.back.domain.approval.dto.ApprovalSettingResponseDto;
+import com.poen.berieas.back.domain.approval.dto.FormCacheDto;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSetting;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSettingRepository;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.repository.MemberRepository;
+
+// 양식 리스트 / 양식 상세(결재자 포함) 캐시
+@Service
+public class FormCacheService {
+
+    private static final String LIST_KEY = "all";
+
+    private final ApprovalSettingRepository approvalSettingRepository;
+    private final MemberRepository memberRepository;
+    private final Cache formListCache;
+    private final Cache formCache;
+
+    public FormCacheService(ApprovalSettingRepository approvalSettingRepository, MemberRepository memberRepository, CacheManager cacheManager) {
+
+        this.approvalSettingRepository = approvalSettingRepository;
+        this.memberRepository = memberRepository;
+        this.formListCache = cacheManager.getCache(CacheConfig.FORM_LIST);
+        this.formCache = cacheManager.getCache(CacheConfig.FORM);
+    }
+
+    // 양식 리스트
+    @SuppressWarnings("unchecked")
+    public List<ApprovalSettingListResponseDto> getForms() {
+
+        List<ApprovalSettingListResponseDto> cached = formListCache.get(LIST_KEY, List.class);
+        if (cached != null) return cached;
+
+        List<ApprovalSettingListResponseDto> forms = approvalSettingRepository.findAll().stream()
+            .map(approvalSetting -> new ApprovalSettingListResponseDto(
+                approvalSetting.getFormNo(),
+                approvalSetting.getFormType(),
+                approvalSetting.getFormTitle()
+            )).toList();
+
+        formListCache.put(LIST_KEY, forms);
+        return forms;
+    }
+
+    // 양식 상세 (없는 양식은 저장하지 않음)
+    public Optional<FormCacheDto> getForm(int formNo) {
+
+        FormCacheDto cached = formCache.get(formNo, FormCacheDto.class);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<FormCacheDto> form = approvalSettingRepository.findByFormNo(formNo).map(this::toFormCache);
+        form.ifPresent(f -> formCache.put(formNo, f));
+        return form;
+    }
+
+    // 양식 추가 시 리스트만 무효화
+    public void evictList() {
+        CacheConfig.evictAfterCompletion(formListCache::clear);
+    }
+
+    // 양식 삭제 시 리스트 + 상세 무효화
+    public void evict(int formNo) {
+        CacheConfig.evictAfterCompletion(() -> {
+            formListCache.clear();
+            formCache.evict(formNo);
+        });
+    }
+
+    private FormCacheDto toFormCache(ApprovalSetting form) {
+
+        List<String> signIds = Collections.unmodifiableList(Arrays.asList(
+            form.getFormSignId1(),
+            form.getFormSignId2(),
+            form.getFormSignId3(),
+            form.getFormSignId4(),
+            form.getFormSignId5()
+        ));
+
+        // signId는 memberName이므로 이름 목록으로 한 번에 조회 (동명이인은 첫 번째 회원)
+        List<String> names = signIds.stream().filter(signId -> signId != null && !signId.isBlank()).toList();
+        Map<String, Member> members = names.isEmpty() ? Map.of() : memberRepository.findByMemberNameIn(names).stream()
+            .collect(Collectors.toMap(Member::getMemberName, Function.identity(), (first, second) -> first));
+
+        List<ApprovalSettingResponseDto.ApproverInfo> approvers = names.stream()
+            .map(members::get)
+            .filter(member -> member != null)
+            .map(member -> new ApprovalSettingResponseDto.ApproverInfo(
+                member.getMemberId(),
+                member.getMemberName(),
+                member.getMemberDepartment(),
+                member.getMemberPosition()
+            )).toList();
+
+        return new FormCacheDto(form.getFormNo(), form.getFormType(), form.getFormTitle(), form.getFormDocument(), signIds, approvers);
+    }
+}
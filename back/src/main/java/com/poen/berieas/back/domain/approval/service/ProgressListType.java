@@ -0,0 +1,32 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.poen.berieas.back.domain.approval.repository.ApprovalListScope;
+
+// 진행목록 종류 (커서 조회 시 URL 경로 이름으로 구분, 조회 조건은 scope)
+public enum ProgressListType {
+
+    ALL("allApprovals", ApprovalListScope.OVERALL),
+    IN_PROGRESS("inProgressApprovals", ApprovalListScope.IN_PROGRESS),
+    TEMPORARY_SAVED("temporarySavedApprovals", ApprovalListScope.TEMPORARY_SAVED),
+    RETURNED("returnedApprovals", ApprovalListScope.RETURNED),
+    COMPLETED("completedApprovals", ApprovalListScope.COMPLETED);
+
+    private final String path;
+    private final ApprovalListScope scope;
+
+    ProgressListType(String path, ApprovalListScope scope) {
+        this.path = path;
+        this.scope = scope;
+    }
+
+    public ApprovalListScope getScope() {
+        return scope;
+    }
+
+    public static Optional<ProgressListType> fromPath(String path) {
+        return Arrays.stream(values()).filter(type -> type.path.equals(path)).findFirst();
+    }
+}
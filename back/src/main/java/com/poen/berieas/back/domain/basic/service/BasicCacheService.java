@@ -0,0 +1,85 @@
+package com.poen.berieas.back.domain.basic.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.basic.dto.BasicResponseDto;
+import com.poen.berieas.back.domain.basic.entity.Basic;
+import com.poen.berieas.back.domain.basic.repository.BasicRepository;
+
+// 코드 테이블(부서/직급/도메인) 캐시, type 단위로 한 번만 조회
+@Service
+public class BasicCacheService {
+
+    public static final String DEPARTMENT = "department";
+    public static final String POSITION = "position";
+    public static final String DOMAIN = "domain";
+
+    private static final String DEFAULT_DOMAIN = "localhost";
+
+    private final BasicRepository basicRepository;
+    private final Cache basicCache;
+
+    public BasicCacheService(BasicRepository basicRepository, CacheManager cacheManager) {
+
+        this.basicRepository = basicRepository;
+        this.basicCache = cacheManager.getCache(CacheConfig.BASIC);
+    }
+
+    // 부서 리스트
+    public List<BasicResponseDto> getDepartments() {
+        return getList(DEPARTMENT, basicRepository::getDepartments);
+    }
+
+    // 직급 리스트
+    public List<BasicResponseDto> getPositions() {
+        return getList(POSITION, basicRepository::getPositions);
+    }
+
+    // 도메인 (CORS 허용 origin, 없으면 localhost)
+    public String getDomain() {
+
+        String cached = basicCache.get(DOMAIN, String.class);
+        if (cached != null) return cached;
+
+        String domain = basicRepository.findByTypeAndName("domain", "도메인")
+            .map(Basic::getCode)
+            .orElse(DEFAULT_DOMAIN);
+
+        basicCache.put(DOMAIN, domain);
+        return domain;
+    }
+
+    // type 단위 무효화 (즉시 + 커밋 후 한 번 더)
+    public void evict(String type) {
+        CacheConfig.evictAfterCompletion(() -> basicCache.evict(type));
+    }
+
+    // 전체 무효화 (DB에서 직접 수정한 도메인 등을 재시작 없이 반영)
+    public void evictAll() {
+        CacheConfig.evictAfterCompletion(basicCache::clear);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BasicResponseDto> getList(String type, Supplier<List<Basic>> loader) {
+
+        List<BasicResponseDto> cached = basicCache.get(type, List.class);
+        if (cached != null) return cached;
+
+        List<BasicResponseDto> codes = loader.get().stream()
+            .map(basic -> new BasicResponseDto(
+                basic.getIdx(),
+                basic.getName(),
+                basic.getCodeKey(),
+                basic.getCodeValue()))
+            .toList();
+
+        basicCache.put(type, codes);
+        return codes;
+    }
+}
@@ -2,7 +2,6 @@ package com.poen.berieas.back.domain.basic.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -24,20 +23,13 @@ public class BasicService {
     
     private final BasicRepository basicRepository;
     private final MemberRepository memberRepository;
+    private final BasicCacheService basicCacheService;
     private final MessageUtil messageUtil;
 
     // 부서 리스트 
     public List<BasicResponseDto> getDepartments() {
 
-        List<Basic> departments = basicRepository.getDepartments();
-        
-        return departments.stream()
-            .map(department -> new BasicResponseDto(
-                    department.getIdx(),
-                    department.getName(),
-                    department.getCodeKey(),
-                    department.getCodeValue()))
-            .collect(Collectors.toList());
+        return basicCacheService.getDepartments();
     }
 
     // 부서 추가
@@ -54,6 +46,7 @@ public class BasicService {
         department.setRegDate(LocalDateTime.now());
 
         basicRepository.save(department);
+        basicCacheService.evict(BasicCacheService.DEPARTMENT);
     }
 
     // 부서 삭제
@@ -71,6 +64,7 @@ public class BasicService {
         }
 
         basicRepository.delete(department);
+        basicCacheService.evict(BasicCacheService.DEPARTMENT);
     }
 
     // 부서 수정
@@ -81,20 +75,13 @@ public class BasicService {
 
         department.setName(dto.getName());
         basicRepository.save(department);
+        basicCacheService.evict(BasicCacheService.DEPARTMENT);
     }
 
     // 직급 리스트 
     public List<BasicResponseDto> getPositions() {
 
-        List<Basic> positions = basicRepository.getPositions();
-
-        return positions.stream()
-            .map(position -> new BasicResponseDto(
-                position.getIdx(),
-                position.getName(),
-                position.getCodeKey(),
-                position.getCodeValue()))
-            .collect(Collectors.toList());
+        return basicCacheService.getPositions();
     }
 
     // 직급 추가
@@ -111,6 +98,7 @@ public class BasicService {
         position.setRegDate(LocalDateTime.now());
 
         basicRepository.save(position);
+        basicCacheService.evict(BasicCacheService.POSITION);
     }
 
     // 직급 삭제
@@ -120,6 +108,7 @@ public class BasicService {
         Basic position = basicRepository.findByIdx(idx).orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("error.position.not.found")));
 
         basicRepository.delete(position);
+        basicCacheService.evict(BasicCacheService.POSITION);
     }
 
     // 직급 수정
@@ -130,12 +119,11 @@ public class BasicService {
 
         position.setName(dto.getName());
         basicRepository.save(position);
+        basicCacheService.evict(BasicCacheService.POSITION);
     }
 
     // 도메인 조회
     public String getDomain() {
-        return basicRepository.findByTypeAndName("domain", "도메인")
-            .map(Basic::getCode)
-            .orElse("localhost");
+        return basicCacheService.getDomain();
     }
 }
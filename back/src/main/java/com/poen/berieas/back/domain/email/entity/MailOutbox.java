@@ -0,0 +1,67 @@
+package com.poen.berieas.back.domain.email.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 메일 발송 대기열 (업무 데이터와 같은 트랜잭션으로 저장, 커밋 후 MailDispatcher 가 발송)
+@Entity
+@Table(name = "mail_outbox", indexes = {
+    @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "recipient")
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Lob
+    @Column(name = "body")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    // 다음 발송 시도 시각 (발송 중에는 점유 만료 시각)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,6 @@
+package com.poen.berieas.back.domain.email.entity;
+
+// 메일 발송 상태 (PENDING: 대기/재시도 대기, SENT: 발송 완료, FAILED: 재시도 횟수 초과)
+public enum MailOutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -7,13 +7,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "password_reset_request")
+@Table(name = "password_reset_request", indexes = {
+    @Index(name = "idx_password_reset_request_expire_time", columnList = "expire_time")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class PasswordResetRequest {
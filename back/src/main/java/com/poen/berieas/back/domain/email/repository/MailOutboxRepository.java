@@ -0,0 +1,44 @@
+package com.poen.berieas.back.domain.email.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.entity.MailOutboxStatus;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 대상 (대기 상태 + 시도 시각 도래)
+    @Query("""
+            select m.id from MailOutbox m
+            where m.status = :status and m.nextAttemptAt <= :now
+            order by m.id
+            """)
+    List<Long> findDueIds(@Param("status") MailOutboxStatus status, @Param("now") LocalDateTime now, Limit limit);
+
+    // 발송 점유 - 시도 시각을 점유 만료 시각으로 미뤄서 다른 작업자/인스턴스가 가져가지 않도록 (1건 = 점유 성공)
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m set m.nextAttemptAt = :leaseUntil
+            where m.id = :id and m.status = :status and m.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("status") MailOutboxStatus status, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 완료
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m set m.status = :status, m.sentAt = :now, m.attempts = m.attempts + 1, m.lastError = null
+            where m.id in :ids
+            """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") MailOutboxStatus status, @Param("now") LocalDateTime now);
+}
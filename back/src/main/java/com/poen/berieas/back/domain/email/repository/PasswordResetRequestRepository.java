@@ -1,8 +1,13 @@
 package com.poen.berieas.back.domain.email.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.poen.berieas.back.domain.email.entity.PasswordResetRequest;
 
@@ -10,4 +15,10 @@ public interface PasswordResetRequestRepository extends JpaRepository<PasswordRe
     
     Optional<PasswordResetRequest> findTopByEmailAndCodeAndUsedOrderByCreatedAtDesc(String email, String code, boolean used);
     Optional<PasswordResetRequest> findTopByEmailAndUsedOrderByCreatedAtDesc(String email, boolean used);
+
+    // 만료된 인증 코드 삭제 - 최대 limit 건씩 (expire_time 인덱스 범위)
+    @Transactional
+    @Modifying
+    @Query(value = "delete from password_reset_request where expire_time < :cutoff limit :limit", nativeQuery = true)
+    int deleteBatchByExpireTimeBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -1,8 +1,14 @@
 package com.poen.berieas.back.domain.email.service;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import java.time.LocalDateTime;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.entity.MailOutboxStatus;
+import com.poen.berieas.back.domain.email.repository.MailOutboxRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -10,14 +16,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EmailService {
     
-    private final JavaMailSender mailSender;   
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDispatcher mailDispatcher;
 
+    // 메일 발송 요청 - 대기열에 저장만 하고 바로 반환 (SMTP 지연이 요청/트랜잭션에 포함되지 않음)
+    // 호출한 트랜잭션과 함께 커밋되고, 커밋 후 MailDispatcher 가 발송
     public void sendEmail(String to, String sub, String text) {
-       
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(sub);
-        message.setText(text);
-        mailSender.send(message);
+
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.save(MailOutbox.builder()
+            .recipient(to)
+            .subject(sub)
+            .body(text)
+            .status(MailOutboxStatus.PENDING)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.wake();
+                }
+            });
+        } else {
+            mailDispatcher.wake();
+        }
     }
 }
@@ -0,0 +1,192 @@
+package com.poen.berieas.back.domain.email.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.entity.MailOutboxStatus;
+import com.poen.berieas.back.domain.email.repository.MailOutboxRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 메일 대기열 발송 작업자
+// - 커밋 직후 wake() 로 바로 깨우고, 재시도/누락분은 주기적으로 확인
+// - 작업자 수와 대기 작업 수를 제한한 풀에서 실행 (요청 스레드/DB 커넥션과 분리)
+// - 배치 단위로 JavaMailSender.send(...) 한 번 호출 → SMTP 연결 하나로 여러 통 발송
+// - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 FAILED
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도 간격 (이후 2배씩 증가)
+    @Value("${mail.outbox.backoff:PT30S}")
+    private Duration backoff;
+
+    @Value("${mail.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    // 발송 중 점유 시간 (작업자가 죽으면 이후 다시 발송 대상)
+    @Value("${mail.outbox.lease:PT5M}")
+    private Duration lease;
+
+    private ThreadPoolExecutor executor;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender mailSender) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+    }
+
+    @PostConstruct
+    void start() {
+
+        AtomicInteger threadNo = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            runnable -> {
+                Thread thread = new Thread(runnable, "mail-dispatcher-" + threadNo.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 이미 작업자가 충분히 돌고 있으면 버림 (남은 메일은 실행 중인 작업자나 다음 주기가 처리)
+            new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    // 새 메일 등록(커밋) 후 호출
+    public void wake() {
+        executor.execute(this::dispatch);
+    }
+
+    // 재시도 대상 / 깨우기 누락분 확인
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT10S}")
+    public void poll() {
+        wake();
+    }
+
+    // 발송 대상이 없을 때까지 배치 단위로 발송, 발송 성공 건수 반환
+    public int dispatch() {
+
+        int sent = 0;
+        List<MailOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                sent += send(batch);
+            }
+        } while (batch.size() == batchSize);
+        return sent;
+    }
+
+    private List<MailOutbox> claimBatch() {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(lease);
+
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : mailOutboxRepository.findDueIds(MailOutboxStatus.PENDING, now, Limit.of(batchSize))) {
+            if (mailOutboxRepository.claim(id, MailOutboxStatus.PENDING, now, leaseUntil) == 1) {
+                claimed.add(id);
+            }
+        }
+        return claimed.isEmpty() ? List.of() : mailOutboxRepository.findAllById(claimed);
+    }
+
+    private int send(List<MailOutbox> batch) {
+
+        Map<SimpleMailMessage, MailOutbox> rows = new IdentityHashMap<>();
+        for (MailOutbox mail : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            rows.put(message, mail);
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(rows.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                rows.keySet().forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            rows.keySet().forEach(message -> failures.put(message, e));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<SimpleMailMessage, MailOutbox> entry : rows.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getId());
+            } else {
+                retryLater(entry.getValue(), failure, now);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, MailOutboxStatus.SENT, now);
+        }
+        return sentIds.size();
+    }
+
+    private void retryLater(MailOutbox mail, Exception failure, LocalDateTime now) {
+
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(truncate(failure.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            mail.setStatus(MailOutboxStatus.FAILED);
+            log.warn("메일 발송 실패 (재시도 중단) id={}, to={}: {}", mail.getId(), mail.getRecipient(), failure.getMessage());
+        } else {
+            Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+            mail.setNextAttemptAt(now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay));
+        }
+        mailOutboxRepository.save(mail);
+    }
+
+    private String truncate(String message) {
+
+        if (message == null) return null;
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -11,15 +11,23 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 로그인 세션별 Refresh 토큰 1건 (토큰 원문 대신 SHA-256 32바이트 저장)
+// 재발급 시 같은 행의 해시를 새 토큰으로 교체하고, 직전 토큰 해시는 재사용 탐지용으로 보관
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "refresh_token")
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "uk_refresh_token_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_refresh_token_previous_hash", columnList = "previous_hash"),
+    @Index(name = "idx_refresh_token_member_id", columnList = "member_id"),
+    @Index(name = "idx_refresh_token_created_date", columnList = "created_date")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -32,9 +40,15 @@ public class RefreshToken {
     @Column(name = "member_id", nullable = false)
     private String memberId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refresh;
+    // 현재 유효한 Refresh 토큰 SHA-256
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
 
+    // 직전(교체된) Refresh 토큰 SHA-256 - 다시 사용되면 탈취로 보고 세션 폐기
+    @Column(name = "previous_hash", length = 32)
+    private byte[] previousHash;
+
+    // 현재 토큰 발급 시각 (재발급 시 갱신)
     @CreatedDate
     @Column(name = "created_date", updatable = false)
     private LocalDateTime createdDate;
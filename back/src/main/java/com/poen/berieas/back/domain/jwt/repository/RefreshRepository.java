@@ -3,20 +3,46 @@ package com.poen.berieas.back.domain.jwt.repository;
 import java.time.LocalDateTime;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.poen.berieas.back.domain.jwt.entity.RefreshToken;
 
 public interface RefreshRepository extends JpaRepository<RefreshToken, Long>{
     
-    // refresh 토큰 존재 여부 확인 
-    Boolean existsByRefresh(String refreshToken);
+    // refresh 토큰 존재 여부 확인 (해시 유니크 인덱스)
+    boolean existsByTokenHash(byte[] tokenHash);
+
+    // 교체된(직전) refresh 토큰 여부 - 재사용 탐지
+    boolean existsByPreviousHash(byte[] previousHash);
+
+    // refresh 토큰 교체 - 현재 토큰일 때만 새 해시로 바꿈 (1건 = 교체 성공, 0건 = 없거나 이미 교체됨)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update RefreshToken r
+            set r.tokenHash = :newHash, r.previousHash = :oldHash, r.createdDate = :now
+            where r.tokenHash = :oldHash
+            """)
+    int rotate(@Param("oldHash") byte[] oldHash, @Param("newHash") byte[] newHash, @Param("now") LocalDateTime now);
 
     // refresh 토큰 기반 삭제 
-    void deleteByRefresh(String refresh);
+    @Modifying
+    @Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 재사용된 토큰이 속한 세션 삭제 - cutoff 이전에 교체된 경우만 (유예 시간 내 동시 재발급은 제외)
+    @Modifying
+    @Query("delete from RefreshToken r where r.previousHash = :previousHash and r.createdDate < :cutoff")
+    int deleteByPreviousHashRotatedBefore(@Param("previousHash") byte[] previousHash, @Param("cutoff") LocalDateTime cutoff);
 
     // JWT 발급 memberId 기반 삭제 메소드 (탈퇴시)
     void deleteByMemberId(String memberId);
 
-    // 특정일 지난 refresh 토큰 삭제
-    void deleteByCreatedDateBefore(LocalDateTime createdDate);
+    // 특정일 지난 refresh 토큰 삭제 - 최대 limit 건씩 (created_date 인덱스 범위, 건별 조회/삭제 없이 한 문장)
+    @Transactional
+    @Modifying
+    @Query(value = "delete from refresh_token where created_date < :cutoff limit :limit", nativeQuery = true)
+    int deleteBatchByCreatedDateBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -0,0 +1,50 @@
+package com.poen.berieas.back.domain.jwt.service;
+
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.util.JWTUtil;
+import com.poen.berieas.back.util.JWTUtil.TokenClaims;
+
+import lombok.RequiredArgsConstructor;
+
+// 검증된 Access 토큰 캐시 (키 = 토큰 SHA-256, 원문 토큰은 메모리에 보관하지 않음)
+// 유효한 토큰만 저장 (위조/만료 토큰으로 캐시를 채울 수 없음), 캐시가 꺼져 있으면 매번 검증
+// 폐기 기능은 없음 - 캐시에서 지워도 다음 요청에서 다시 검증/저장되므로 Access 토큰은 만료 시각까지 유효 (로그아웃은 Refresh 토큰 삭제)
+@Service
+@RequiredArgsConstructor
+public class AccessTokenCacheService {
+
+    private final CacheManager cacheManager;
+
+    // Access 토큰 검증 (캐시 적중 시 서명 검증/파싱 생략)
+    public Optional<TokenClaims> verify(String token) {
+
+        Cache cache = cacheManager.getCache(CacheConfig.ACCESS_TOKEN);
+        if (cache == null) return JWTUtil.parse(token, true);
+
+        String key = digest(token);
+        TokenClaims cached = cache.get(key, TokenClaims.class);
+        if (cached != null) {
+            // 만료 직후 아직 정리되지 않은 항목
+            if (cached.expiration().getTime() > System.currentTimeMillis()) {
+                return Optional.of(cached);
+            }
+            cache.evict(key);
+        }
+
+        Optional<TokenClaims> claims = JWTUtil.parse(token, true);
+        claims.ifPresent(verified -> cache.put(key, verified));
+        return claims;
+    }
+
+    private String digest(String token) {
+
+        return HexFormat.of().formatHex(JWTUtil.hash(token));
+    }
+}
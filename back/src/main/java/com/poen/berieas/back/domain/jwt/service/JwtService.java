@@ -1,5 +1,9 @@
 package com.poen.berieas.back.domain.jwt.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,10 +12,13 @@ import com.poen.berieas.back.domain.jwt.dto.RefreshRequestDto;
 import com.poen.berieas.back.domain.jwt.entity.RefreshToken;
 import com.poen.berieas.back.domain.jwt.repository.RefreshRepository;
 import com.poen.berieas.back.util.JWTUtil;
+import com.poen.berieas.back.util.JWTUtil.TokenClaims;
 import com.poen.berieas.back.util.MessageUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,36 +27,50 @@ public class JwtService {
     private final RefreshRepository refreshRepository;
     private final MessageUtil messageUtil;
 
+    // 교체 직후 같은 토큰으로 들어온 재발급(여러 탭 동시 refresh)을 재사용으로 보지 않는 유예 시간
+    @Value("${jwt.refresh.reuse-grace:PT10S}")
+    private Duration reuseGrace;
+
     // Refresh 토큰으로 Access 토큰 재발급 로직(Rotate 포함)
+    // 저장된 현재 토큰일 때만 한 번의 update 로 새 토큰과 교체, 이미 교체된 토큰이 다시 오면 재사용(탈취)으로 보고 세션 폐기
+    // 단, 유예 시간 내 교체된 토큰이면 세션은 유지하고 거절만 함 (먼저 교체한 쪽의 새 토큰으로 재시도)
+    @Transactional(noRollbackFor = RuntimeException.class)
     public JWTResponseDto refreshRotate(RefreshRequestDto dto) {
 
         String refreshToken = dto.getRefreshToken();
 
-        // Refresh 토큰 검증 
-        Boolean isValid = JWTUtil.isValid(refreshToken, false);
-        if(!isValid) {
-
-            throw new RuntimeException(messageUtil.getMessage("error.jwt.invalid"));
-        }
+        // Refresh 토큰 검증 + 정보 추출
+        TokenClaims claims = JWTUtil.parse(refreshToken, false)
+            .orElseThrow(() -> new RuntimeException(messageUtil.getMessage("error.jwt.invalid")));
 
-        // 정보 추출
-        String memberId = JWTUtil.getMemberId(refreshToken);
-        String role = JWTUtil.getRole(refreshToken);
+        String memberId = claims.memberId();
+        String role = claims.role();
 
         // 토큰 생성
         String newAccesstoken = JWTUtil.createJwt(memberId, role, true);
         String newRefreshToken = JWTUtil.createJwt(memberId, role, false);
 
-        // 기존 Refresh 토큰 DB 삭제 후 신규 추가
-        RefreshToken refreshToken2 = RefreshToken.builder()
-            .memberId(memberId)
-            .refresh(refreshToken)
-            .build();
+        // 기존 Refresh 토큰 -> 신규 토큰 교체
+        byte[] oldHash = JWTUtil.hash(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshRepository.rotate(oldHash, JWTUtil.hash(newRefreshToken), now) == 1) {
+            return new JWTResponseDto(newAccesstoken, newRefreshToken);
+        }
 
-        removeRefresh(refreshToken);
-        refreshRepository.save(refreshToken2);
+        // 교체된 토큰 재사용 - 해당 세션의 현재 토큰까지 폐기 (다시 로그인 필요)
+        if (refreshRepository.deleteByPreviousHashRotatedBefore(oldHash, now.minus(reuseGrace)) > 0) {
+            log.warn("Refresh 토큰 재사용 탐지, 세션 폐기. MemberId: {}", memberId);
+            throw new RuntimeException(messageUtil.getMessage("error.jwt.reused"));
+        }
 
-        return new JWTResponseDto(newAccesstoken, newRefreshToken);
+        // 유예 시간 내 교체된 토큰 - 동시 재발급으로 보고 세션 유지
+        if (refreshRepository.existsByPreviousHash(oldHash)) {
+            log.debug("유예 시간 내 교체된 Refresh 토큰 재요청. MemberId: {}", memberId);
+            throw new RuntimeException(messageUtil.getMessage("error.jwt.rotated"));
+        }
+
+        // 로그아웃/만료 등으로 저장소에 없는 토큰
+        throw new RuntimeException(messageUtil.getMessage("error.jwt.invalid"));
     }
 
     // Jwt Refresh 토큰 발급 후 저장 메소드
@@ -58,7 +79,7 @@ public class JwtService {
 
         RefreshToken token = RefreshToken.builder()
             .memberId(memberId)
-            .refresh(refreshToken)
+            .tokenHash(JWTUtil.hash(refreshToken))
             .build();
 
         refreshRepository.save(token);
@@ -67,17 +88,18 @@ public class JwtService {
     // Jwt Refresh 토큰 기반 존재 확인 메소드
     public Boolean existsByRefresh(String refreshToken) {
 
-        return refreshRepository.existsByRefresh(refreshToken);
+        return refreshRepository.existsByTokenHash(JWTUtil.hash(refreshToken));
     }
 
     // JWT Refresh 토큰 기반 삭제 메소드
     @Transactional
     public void removeRefresh(String refreshToken) {
 
-        refreshRepository.deleteByRefresh(refreshToken);
+        refreshRepository.deleteByTokenHash(JWTUtil.hash(refreshToken));
     }
 
     // JWT 발급 memberId 기반 삭제 메소드 (탈퇴시)
+    @Transactional
     public void removeRefreshMember(String memberId) {
         
         refreshRepository.deleteByMemberId(memberId);
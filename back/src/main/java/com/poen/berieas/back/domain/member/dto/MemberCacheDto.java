@@ -0,0 +1,15 @@
+package com.poen.berieas.back.domain.member.dto;
+
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+
+// 회원 캐시 항목 (로그인/결재 등 매 요청 조회되는 필드만)
+public record MemberCacheDto(String memberId, String memberPw, String memberName, String memberEmail, String memberDepartment,
+        String memberPosition, RoleType role, String useYn, String isFirstLogin) {
+
+    public static MemberCacheDto from(Member member) {
+
+        return new MemberCacheDto(member.getMemberId(), member.getMemberPw(), member.getMemberName(), member.getMemberEmail(),
+                member.getMemberDepartment(), member.getMemberPosition(), member.getRole(), member.getUseYn(), member.getIsFirstLogin());
+    }
+}
@@ -1,5 +1,6 @@
 package com.poen.berieas.back.domain.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,7 +37,7 @@ public interface MemberRepository extends JpaRepository<Member, String>{
        "or m.memberEmail like concat('%', :keyword, '%')")
     List<Member> findAllByKeyword(@Param("keyword") String keyword);
 
-    // 이름으로 멤버 조회
-    Optional<Member> findByMemberName(String memberName);
+    // 이름 목록으로 멤버 일괄 조회 (결재라인/참조자 지정, 동명이인 가능)
+    List<Member> findByMemberNameIn(Collection<String> memberNames);
 
 }
@@ -0,0 +1,47 @@
+package com.poen.berieas.back.domain.member.service;
+
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
+import com.poen.berieas.back.domain.member.repository.MemberRepository;
+
+// memberId -> 회원 요약 캐시 (LoginFilter, LoginSuccessHandler, loadUserByUsername, 결재 서비스에서 사용)
+@Service
+public class MemberCacheService {
+
+    private final MemberRepository memberRepository;
+    private final Cache cache;
+
+    public MemberCacheService(MemberRepository memberRepository, CacheManager cacheManager) {
+
+        this.memberRepository = memberRepository;
+        this.cache = cacheManager.getCache(CacheConfig.MEMBER);
+    }
+
+    // 캐시 조회, 없으면 DB 조회 후 저장 (없는 회원은 저장하지 않음)
+    public Optional<MemberCacheDto> getMember(String memberId) {
+
+        if (memberId == null) return Optional.empty();
+
+        MemberCacheDto cached = cache.get(memberId, MemberCacheDto.class);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<MemberCacheDto> member = memberRepository.findByMemberId(memberId).map(MemberCacheDto::from);
+        member.ifPresent(m -> cache.put(memberId, m));
+        return member;
+    }
+
+    // 회원 변경 시 무효화
+    // 커밋 전에 다른 요청이 옛 값을 다시 올릴 수 있으므로 커밋 후 한 번 더 제거
+    public void evict(String memberId) {
+
+        if (memberId == null) return;
+
+        CacheConfig.evictAfterCompletion(() -> cache.evict(memberId));
+    }
+}
@@ -21,6 +21,7 @@ import com.poen.berieas.back.domain.email.entity.PasswordResetRequest;
 import com.poen.berieas.back.domain.email.repository.PasswordResetRequestRepository;
 import com.poen.berieas.back.domain.email.service.EmailService;
 import com.poen.berieas.back.domain.jwt.service.JwtService;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
 import com.poen.berieas.back.domain.member.dto.MemberListResponseDto;
 import com.poen.berieas.back.domain.member.dto.MemberRequestDto;
 import com.poen.berieas.back.domain.member.dto.MemberResponseDto;
@@ -40,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class MemberService implements UserDetailsService{
     
     private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final PasswordResetRequestRepository passwordResetRequestRepository;
@@ -89,34 +91,20 @@ public class MemberService implements UserDetailsService{
     public UserDetails loadUserByUsername(String memberId) throws UsernameNotFoundException {
 
         // 테이블이 Member이고, MemberId 와 MemberPw로 로그인하기 때문에 memberId로 파라미터를 받음. 
-        Member member = memberRepository.findByMemberId(memberId)
+        MemberCacheDto member = memberCacheService.getMember(memberId)
                 .orElseThrow(() -> new UsernameNotFoundException(memberId));
 
         // useYn이 N이면 비활성화된 회원 - 로그인 불가
-        if ("N".equals(member.getUseYn())) {
+        if ("N".equals(member.useYn())) {
             throw new UsernameNotFoundException(messageUtil.getMessage("error.member.deactivated"));
         }
 
-        System.out.println("===== loadUserByUsername 호출 =====");
-        System.out.println("memberId: " + member.getMemberId());
-        System.out.println("memberPw (DB): " + member.getMemberPw());
-        System.out.println("role: " + member.getRole());
-        System.out.println("isFirstLogin: " + member.getIsFirstLogin());
-        System.out.println("useYn: " + member.getUseYn());
-
-        boolean matches = passwordEncoder.matches("1234", member.getMemberPw());
-        System.out.println("비번 매칭 결과: " + matches);
-
-        // 조회한 entity를 기반으로 UserDetails를 만들어서 반환
-        UserDetails userDetails = User.builder()
-        .username(member.getMemberId())
-        .password(member.getMemberPw())
-        .authorities(member.getRole().name())
+        // 조회한 회원 정보를 기반으로 UserDetails를 만들어서 반환 (비밀번호 비교는 AuthenticationProvider 에서 한 번만)
+        return User.builder()
+        .username(member.memberId())
+        .password(member.memberPw())
+        .authorities(member.role().name())
         .build();
-
-        System.out.println("UserDetails password: " + userDetails.getPassword());
-
-        return userDetails;
     }
 
     //== 회원 탈퇴 ==// 
@@ -136,6 +124,7 @@ public class MemberService implements UserDetailsService{
 
         // 멤버 제거 
         memberRepository.deleteByMemberId(dto.getMemberId());
+        memberCacheService.evict(dto.getMemberId());
 
         // Refresh 토큰 제거
         jwtService.removeRefreshMember(dto.getMemberId());
@@ -146,10 +135,10 @@ public class MemberService implements UserDetailsService{
 
         String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        Member member = memberRepository.findByMemberId(memberId)
+        MemberCacheDto member = memberCacheService.getMember(memberId)
             .orElseThrow(() -> new UsernameNotFoundException(messageUtil.getMessage("error.member.not.found") + " " + memberId));
 
-        return new MemberResponseDto(memberId, member.getMemberName(), member.getMemberEmail(), member.getMemberDepartment(), member.getMemberPosition(), member.getRole());
+        return new MemberResponseDto(memberId, member.memberName(), member.memberEmail(), member.memberDepartment(), member.memberPosition(), member.role());
     }
 
     // 최초 로그인 시 비밀번호 변경
@@ -164,15 +153,10 @@ public class MemberService implements UserDetailsService{
         }
 
         // 비밀번호 업데이트
-        String encoded = passwordEncoder.encode(dto.getMemberPw());
-        System.out.println("newPassword: " + dto.getMemberPw());
-        System.out.println("encodedPassword: " + encoded);
-        member.setMemberPw(encoded);
-
-        boolean matches = passwordEncoder.matches(dto.getMemberPw(), encoded);
-        System.out.println("바로 매칭 결과: " + matches);
+        member.setMemberPw(passwordEncoder.encode(dto.getMemberPw()));
         member.setIsFirstLogin("N"); // 첫 로그인 완료 처리
         memberRepository.save(member);
+        memberCacheService.evict(memberId);
     }
 
     // 인증 코드 생성 후 이메일 전송
@@ -234,6 +218,7 @@ public class MemberService implements UserDetailsService{
         // 새 비밀번호 해싱 후 저장
         member.setMemberPw(passwordEncoder.encode(dto.getMemberPw()));
         memberRepository.save(member);
+        memberCacheService.evict(member.getMemberId());
     }
 
     // 전체 멤버 리스트
@@ -309,6 +294,7 @@ public class MemberService implements UserDetailsService{
 
         member.updateMember(dto);
         memberRepository.save(member);
+        memberCacheService.evict(memberId);
 
         return member.getMemberId();
     }
@@ -334,5 +320,6 @@ public class MemberService implements UserDetailsService{
             member.setUseYn("N");
         }
         memberRepository.save(member);
+        memberCacheService.evict(memberId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.poen.berieas.back.domain.system.controller;
+
+import java.util.List;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.poen.berieas.back.domain.basic.service.BasicCacheService;
+import com.poen.berieas.back.domain.system.dto.CacheStatsResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheManager cacheManager;
+    private final BasicCacheService basicCacheService;
+
+    // 캐시별 적중/미스 통계 (관리자)
+    @GetMapping(value = "/admin/cache/stats")
+    public ResponseEntity<List<CacheStatsResponseDto>> cacheStatsApi() {
+
+        List<CacheStatsResponseDto> stats = cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .filter(CaffeineCache.class::isInstance)
+            .map(CaffeineCache.class::cast)
+            .map(cache -> {
+                CacheStats cacheStats = cache.getNativeCache().stats();
+                return new CacheStatsResponseDto(
+                    cache.getName(),
+                    cache.getNativeCache().estimatedSize(),
+                    cacheStats.hitCount(),
+                    cacheStats.missCount(),
+                    cacheStats.hitRate(),
+                    cacheStats.evictionCount()
+                );
+            })
+            .toList();
+
+        return ResponseEntity.ok(stats);
+    }
+
+    // 코드 테이블(부서/직급/도메인) 캐시 갱신 (관리자) - CORS 허용 도메인도 다음 요청부터 반영
+    @PostMapping(value = "/admin/cache/basic/refresh")
+    public ResponseEntity<String> refreshBasicCacheApi() {
+
+        basicCacheService.evictAll();
+        return ResponseEntity.ok("코드 테이블 캐시가 갱신되었습니다.");
+    }
+}
@@ -0,0 +1,5 @@
+package com.poen.berieas.back.domain.system.dto;
+
+public record CacheStatsResponseDto(String cacheName, long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+    
+}
@@ -0,0 +1,12 @@
+package com.poen.berieas.back.domain.system.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.poen.berieas.back.domain.system.entity.SystemLog;
+
+public interface SystemLogRepository extends JpaRepository<SystemLog, Integer> {
+
+    List<SystemLog> findByLogKeyOrderByRegDateDesc(String logKey);
+}
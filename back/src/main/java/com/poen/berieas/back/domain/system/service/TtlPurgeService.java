@@ -0,0 +1,112 @@
+package com.poen.berieas.back.domain.system.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.poen.berieas.back.domain.email.repository.PasswordResetRequestRepository;
+import com.poen.berieas.back.domain.jwt.repository.RefreshRepository;
+import com.poen.berieas.back.domain.system.entity.SystemLog;
+import com.poen.berieas.back.domain.system.repository.SystemLogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 보관 기간 지난 데이터 정리
+// - 배치(limit 건)마다 별도 트랜잭션으로 삭제 → 긴 트랜잭션/잠금 없이 조금씩 정리
+// - 배치 사이에 잠시 쉬고, 시간 한도를 넘기면 남은 건은 다음 실행에서 정리
+// - 실행 결과(삭제 건수, 배치 수, 소요 시간, 초당 삭제 건수)를 system_log 에 기록
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TtlPurgeService {
+
+    private static final String SYSTEM = "system";
+
+    private final RefreshRepository refreshRepository;
+    private final PasswordResetRequestRepository passwordResetRequestRepository;
+    private final SystemLogRepository systemLogRepository;
+
+    @Value("${purge.batch-size:1000}")
+    private int batchSize;
+
+    // 배치 사이 대기 (다른 트랜잭션에 잠금 양보)
+    @Value("${purge.batch-pause:PT0.05S}")
+    private Duration batchPause;
+
+    // 한 번 실행의 시간 한도
+    @Value("${purge.max-duration:PT5M}")
+    private Duration maxDuration;
+
+    // Refresh 토큰 보관 기간
+    @Value("${purge.refresh-token.retention:P8D}")
+    private Duration refreshTokenRetention;
+
+    // 비밀번호 재설정 인증 코드 - 만료 후 보관 기간
+    @Value("${purge.password-reset.retention:P1D}")
+    private Duration passwordResetRetention;
+
+    // Refresh 토큰 정리, 삭제 건수 반환
+    public long purgeRefreshTokens() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(refreshTokenRetention);
+        return purge("purge.refresh_token", limit -> refreshRepository.deleteBatchByCreatedDateBefore(cutoff, limit));
+    }
+
+    // 만료된 비밀번호 재설정 인증 코드 정리, 삭제 건수 반환
+    public long purgePasswordResetRequests() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(passwordResetRetention);
+        return purge("purge.password_reset_request", limit -> passwordResetRequestRepository.deleteBatchByExpireTimeBefore(cutoff, limit));
+    }
+
+    private long purge(String logKey, IntUnaryOperator deleteBatch) {
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+
+        long deleted = 0;
+        int batches = 0;
+        boolean complete = false;
+        String error = null;
+
+        try {
+            while (true) {
+                int count = deleteBatch.applyAsInt(batchSize);
+                deleted += count;
+                batches++;
+
+                if (count < batchSize) {
+                    complete = true;
+                    break;
+                }
+                if (System.nanoTime() > deadline) break;
+
+                Thread.sleep(batchPause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "interrupted";
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            log.warn("{} 실패 ({}건 삭제 후): {}", logKey, deleted, e.getMessage());
+        }
+
+        long elapsedMs = Math.max(1, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        String result = String.format("deleted=%d, batches=%d, elapsedMs=%d, rowsPerSec=%d, complete=%s%s",
+            deleted, batches, elapsedMs, deleted * 1000 / elapsedMs, complete, error != null ? ", error=" + error : "");
+
+        log.info("{}: {}", logKey, result);
+        systemLogRepository.save(SystemLog.builder()
+            .logKey(logKey)
+            .logValue(result.length() > 255 ? result.substring(0, 255) : result)
+            .regId(SYSTEM)
+            .regDate(LocalDateTime.now())
+            .build());
+
+        return deleted;
+    }
+}
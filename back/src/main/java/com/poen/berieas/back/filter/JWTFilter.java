@@ -3,6 +3,7 @@ package com.poen.berieas.back.filter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -11,7 +12,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.poen.berieas.back.util.JWTUtil;
+import com.poen.berieas.back.domain.jwt.service.AccessTokenCacheService;
+import com.poen.berieas.back.util.JWTUtil.TokenClaims;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,6 +23,13 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class JWTFilter extends OncePerRequestFilter{
+
+    private final AccessTokenCacheService accessTokenCacheService;
+
+    public JWTFilter(AccessTokenCacheService accessTokenCacheService) {
+
+        this.accessTokenCacheService = accessTokenCacheService;
+    }
     
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -43,18 +52,20 @@ public class JWTFilter extends OncePerRequestFilter{
         // 토큰 파싱
         String accessToken = authorization.split(" ")[1];
 
-        if (JWTUtil.isValid(accessToken, true)) {
+        // 검증 + 클레임 추출 (서명 검증 1회, 같은 토큰 재요청은 캐시에서)
+        Optional<TokenClaims> claims = accessTokenCacheService.verify(accessToken);
+
+        if (claims.isPresent()) {
 
-            String memberId = JWTUtil.getMemberId(accessToken);
-            String role = JWTUtil.getRole(accessToken);
+            String memberId = claims.get().memberId();
+            String role = claims.get().role();
 
             List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
 
             Authentication auth = new UsernamePasswordAuthenticationToken(memberId, null, authorities);
             SecurityContextHolder.getContext().setAuthentication(auth);
 
-            log.info("JWT Valid. MemberId: {}", memberId);
-            log.info("JWT Valid. role: {}", role);
+            log.debug("JWT Valid. MemberId: {}, role: {}", memberId, role);
 
             filterChain.doFilter(request, response);
 
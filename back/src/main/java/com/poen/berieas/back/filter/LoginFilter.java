@@ -6,8 +6,8 @@ import java.util.Map;
 import java.util.Optional;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.poen.berieas.back.domain.member.entity.Member;
-import com.poen.berieas.back.domain.member.repository.MemberRepository;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletInputStream;
@@ -32,8 +32,9 @@ import com.poen.berieas.back.util.MessageUtil;
 public class LoginFilter extends AbstractAuthenticationProcessingFilter {
 
     private final AuthenticationSuccessHandler authenticationSuccessHandler;
-    private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
     private final MessageUtil messageUtil;
+    private final LoginRateLimiter loginRateLimiter;
 
     public static final String SPRING_SECURITY_FORM_USERNAME_KEY = "memberId";
 
@@ -46,12 +47,13 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
 
     private String passwordParameter = SPRING_SECURITY_FORM_PASSWORD_KEY;
 
-    public LoginFilter(AuthenticationManager authenticationManager, AuthenticationSuccessHandler authenticationSuccessHandler, MemberRepository memberRepository, MessageUtil messageUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager, AuthenticationSuccessHandler authenticationSuccessHandler, MemberCacheService memberCacheService, MessageUtil messageUtil, LoginRateLimiter loginRateLimiter) {
 
         super(DEFAULT_ANT_PATH_REQUEST_MATCHER, authenticationManager);
         this.authenticationSuccessHandler = authenticationSuccessHandler;
-        this.memberRepository = memberRepository;
+        this.memberCacheService = memberCacheService;
         this.messageUtil = messageUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @Override
@@ -79,13 +81,14 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
         String password = loginMap.get(passwordParameter);
         password = (password != null) ? password : "";
 
-        System.out.println("입력한 password: " + password);
+        // 시도 횟수 제한 (IP / 계정) - 비밀번호 해시 계산 전에 거절 (remoteAddr 는 신뢰 프록시의 X-Forwarded-For 반영된 클라이언트 IP)
+        loginRateLimiter.acquire(request.getRemoteAddr(), username);
 
         // useYn 체크 - 비활성화된 회원이면 로그인 불가
-        Optional<Member> memberOpt = memberRepository.findByMemberId(username);
+        Optional<MemberCacheDto> memberOpt = memberCacheService.getMember(username);
         if (memberOpt.isPresent()) {
-            Member member = memberOpt.get();
-            if ("N".equals(member.getUseYn())) {
+            MemberCacheDto member = memberOpt.get();
+            if ("N".equals(member.useYn())) {
                 throw new BadCredentialsException(messageUtil.getMessage("error.member.deactivated"));
             }
         }
@@ -93,7 +96,15 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
         UsernamePasswordAuthenticationToken authRequest = UsernamePasswordAuthenticationToken.unauthenticated(username,password);
 
         setDetails(request, authRequest);
-        return this.getAuthenticationManager().authenticate(authRequest);
+        try {
+            return this.getAuthenticationManager().authenticate(authRequest);
+        } catch (LoginThrottledException e) {
+            throw e;
+        } catch (AuthenticationException e) {
+            // 실패한 경우만 계정 버킷 차감
+            loginRateLimiter.recordFailure(username);
+            throw e;
+        }
     }
 
     protected void setDetails(HttpServletRequest request, UsernamePasswordAuthenticationToken authRequest) {
@@ -110,6 +121,17 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                              AuthenticationException failed) throws IOException, ServletException {
+
+        // 시도 제한 / 비밀번호 확인 대기열 초과 → 429
+        if (failed instanceof LoginThrottledException throttled) {
+            long retryAfter = Math.max(1, throttled.getRetryAfter().toSeconds());
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"errorType\":\"TOO_MANY_REQUESTS\"}");
+            response.getWriter().flush();
+            return;
+        }
         
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType("application/json;charset=UTF-8");
@@ -0,0 +1,102 @@
+package com.poen.berieas.back.filter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 로그인 시도 토큰 버킷 (IP 별 / 계정 별)
+// - 계정: 실패할 때만 1개 소모 (남이 틀린 비밀번호로 계정을 잠그는 것을 줄이기 위해 성공은 차감하지 않음) - 주 제한
+// - IP: 시도할 때마다 1개 소모 (한 곳에서 여러 계정 대입 방지)
+//   사무실 NAT / 프록시 뒤 사용자는 한 IP 를 같이 쓰므로 기본값은 출근 시간 동시 로그인도 막히지 않을 만큼 크게 둠 (200회, 초당 1회 충전)
+//   IP 는 X-Forwarded-For 반영된 값 (BackApplication 의 server.forward-headers-strategy 참고)
+// - 버킷은 일정 시간 사용이 없으면 메모리에서 제거
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+
+    private final int ipCapacity;
+    private final Duration ipRefill;
+    private final int accountCapacity;
+    private final Duration accountRefill;
+
+    public LoginRateLimiter(
+            @Value("${login.rate-limit.ip.capacity:200}") int ipCapacity,
+            @Value("${login.rate-limit.ip.refill:PT1S}") Duration ipRefill,
+            @Value("${login.rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${login.rate-limit.account.refill:PT1M}") Duration accountRefill,
+            @Value("${login.rate-limit.max-keys:100000}") long maxKeys) {
+
+        this.ipCapacity = ipCapacity;
+        this.ipRefill = ipRefill;
+        this.accountCapacity = accountCapacity;
+        this.accountRefill = accountRefill;
+
+        // 버킷이 가득 찰 때까지 걸리는 시간이 지나면 새 버킷과 같으므로 제거해도 됨
+        this.ipBuckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(ipRefill.multipliedBy(ipCapacity).toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+        this.accountBuckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(accountRefill.multipliedBy(accountCapacity).toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    // 시도 전 확인 - 제한 초과 시 LoginThrottledException
+    public void acquire(String ip, String memberId) {
+
+        if (!ipBuckets.get(ip, key -> new TokenBucket(ipCapacity, ipRefill)).tryConsume()) {
+            throw new LoginThrottledException("too many login attempts from " + ip, ipRefill);
+        }
+        TokenBucket account = accountBuckets.getIfPresent(memberId);
+        if (account != null && !account.hasToken()) {
+            throw new LoginThrottledException("too many failed logins for " + memberId, accountRefill);
+        }
+    }
+
+    // 로그인 실패 시 계정 버킷 차감
+    public void recordFailure(String memberId) {
+        accountBuckets.get(memberId, key -> new TokenBucket(accountCapacity, accountRefill)).tryConsume();
+    }
+
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final long refillNanos;
+
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, Duration refill) {
+            this.capacity = capacity;
+            this.refillNanos = refill.toNanos();
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume() {
+            refill();
+            if (tokens < 1) return false;
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean hasToken() {
+            refill();
+            return tokens >= 1;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / refillNanos);
+            lastRefill = now;
+        }
+    }
+}
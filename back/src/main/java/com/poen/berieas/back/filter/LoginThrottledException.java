@@ -0,0 +1,21 @@
+package com.poen.berieas.back.filter;
+
+import java.time.Duration;
+
+import org.springframework.security.core.AuthenticationException;
+
+// 로그인 시도 제한 (시도 횟수 초과 / 비밀번호 확인 대기열 초과) → 429 + Retry-After
+public class LoginThrottledException extends AuthenticationException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
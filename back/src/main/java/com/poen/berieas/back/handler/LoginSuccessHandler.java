@@ -9,8 +9,8 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.stereotype.Component;
 
 import com.poen.berieas.back.domain.jwt.service.JwtService;
-import com.poen.berieas.back.domain.member.entity.Member;
-import com.poen.berieas.back.domain.member.repository.MemberRepository;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
 import com.poen.berieas.back.util.JWTUtil;
 
 import jakarta.servlet.ServletException;
@@ -24,7 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class LoginSuccessHandler implements AuthenticationSuccessHandler{
     
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
@@ -43,9 +43,9 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler{
         jwtService.addRefresh(memberId, refreshToken);
 
         // isFirstLogin 값 조회
-        Member member = memberRepository.findByMemberId(memberId)
+        MemberCacheDto member = memberCacheService.getMember(memberId)
                 .orElseThrow(() -> new UsernameNotFoundException(memberId));
-        String isFirstLogin = member.getIsFirstLogin();
+        String isFirstLogin = member.isFirstLogin();
 
         // 응답
         response.setContentType("application/json");
@@ -1,18 +1,24 @@
 package com.poen.berieas.back.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 public class JWTUtil {
     
     private static final SecretKey secretKey;
+    private static final JwtParser parser;
     private static final Long accessTokenExpiresIn;
     private static final Long refreshTokenExpiresIn;
 
@@ -21,46 +27,59 @@ public class JWTUtil {
         String secretKeyString = "poenitdevelopoperations1234567890";
         secretKey = new SecretKeySpec(secretKeyString.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
 
+        // 서명 검증 파서 (불변, 스레드 안전 → 한 번만 생성해서 공유)
+        parser = Jwts.parser().verifyWith(secretKey).build();
+
         accessTokenExpiresIn = 3600L * 1000; // 1시간
         refreshTokenExpiresIn = 1209600L * 1000; // 14일
     }
 
-    // JWT 클레임 memberId 파싱
-    public static String getMemberId(String token) {
+    // 검증된 JWT 클레임
+    public record TokenClaims(String memberId, String role, Date expiration) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("sub", String.class);
     }
 
-    // Jwt 클레임 role 파싱
-    public static String getRole(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
-
-    // JWT 유효 여부(위조, 시간, Access/Refresh 여부)
-    public static Boolean isValid(String token, Boolean isAccess) {
+    // JWT 검증(위조, 시간, Access/Refresh 여부) + 클레임 추출을 한 번의 파싱으로 처리, 유효하지 않으면 empty
+    public static Optional<TokenClaims> parse(String token, Boolean isAccess) {
 
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             String type = claims.get("type", String.class);
-            if (type == null) return false;
+            if (type == null) return Optional.empty();
 
-            if (isAccess && !type.equals("access")) return false;
-            if (!isAccess && !type.equals("refresh")) return false;
+            if (isAccess && !type.equals("access")) return Optional.empty();
+            if (!isAccess && !type.equals("refresh")) return Optional.empty();
 
-            return true;
+            return Optional.of(new TokenClaims(
+                claims.get("sub", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration()));
 
         }catch(JwtException | IllegalArgumentException e) {
 
-            return false;
+            return Optional.empty();
         }
     }
 
+    // JWT 클레임 memberId 파싱
+    public static String getMemberId(String token) {
+
+        return parser.parseSignedClaims(token).getPayload().get("sub", String.class);
+    }
+
+    // Jwt 클레임 role 파싱
+    public static String getRole(String token) {
+
+        return parser.parseSignedClaims(token).getPayload().get("role", String.class);
+    }
+
+    // JWT 유효 여부(위조, 시간, Access/Refresh 여부)
+    public static Boolean isValid(String token, Boolean isAccess) {
+
+        return parse(token, isAccess).isPresent();
+    }
+
     // JWT(Access/Refresh) 생성
     public static String createJwt(String memberId, String role, Boolean isAccess) {
 
@@ -72,9 +91,20 @@ public class JWTUtil {
             .claim("sub", memberId) // 아이디
             .claim("role", role) // role
             .claim("type", type) // access 인지 refresh 인지
+            .id(UUID.randomUUID().toString()) // 같은 초에 발급해도 토큰(해시)이 겹치지 않도록
             .issuedAt(new Date(now)) // jwt 방급시간 
             .expiration(new Date(now + expiry)) // jwt 생명주기
             .signWith(secretKey) 
             .compact();
     }
+
+    // 토큰 SHA-256 (32바이트) - 저장/캐시 키로 원문 대신 사용
+    public static byte[] hash(String token) {
+
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
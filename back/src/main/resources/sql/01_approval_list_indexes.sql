@@ -0,0 +1,6 @@
+-- 진행목록 조회용 인덱스
+-- 기안자 기준 목록(반려/완료/기안중, 대시보드 카운트)과 기간 필터를 인덱스로 처리
+CREATE INDEX idx_approval_id_status_reg_date ON approval (approval_id, approval_status, reg_date);
+
+-- 상태 + 기간 필터 (진행중 목록 등)
+CREATE INDEX idx_approval_status_reg_date ON approval (approval_status, reg_date);
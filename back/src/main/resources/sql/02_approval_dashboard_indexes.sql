@@ -0,0 +1,3 @@
+-- 대시보드 조회용 인덱스
+-- 내가 결재할 문서 (next_id + 진행중, 최신순)
+CREATE INDEX idx_approval_next_id_status_reg_date ON approval (next_id, approval_status, reg_date);
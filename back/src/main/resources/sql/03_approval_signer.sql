@@ -0,0 +1,52 @@
+-- 결재라인 정규화: approval.sign_id1~5 / sign_date1~5 / sign_remark1~5 -> approval_signer
+CREATE TABLE approval_signer (
+    approval_no INT          NOT NULL,
+    seq         INT          NOT NULL,
+    member_id   VARCHAR(255),
+    member_name VARCHAR(255),
+    signed_at   DATETIME(6),
+    remark      LONGTEXT,
+    PRIMARY KEY (approval_no, seq)
+);
+
+-- "내가 결재자인 문서" 조회 (member_id 로 찾고 approval_no 로 본문 조인)
+CREATE INDEX idx_approval_signer_member_approval ON approval_signer (member_id, approval_no);
+
+-- 기존 슬롯 데이터 이관 (이름 -> member_id, 이름이 회원 한 명과만 일치할 때만)
+-- 동명이인/미등록 이름은 임의로 고르지 않고 member_id NULL 로 남김 → 아래 확인 쿼리로 직접 지정
+INSERT INTO approval_signer (approval_no, seq, member_id, member_name, signed_at, remark)
+SELECT s.approval_no, s.seq,
+       (SELECT MIN(m.member_id) FROM member m WHERE m.member_name = s.sign_id HAVING COUNT(*) = 1),
+       s.sign_id, s.sign_date, s.sign_remark
+FROM (
+    SELECT approval_no, 1 AS seq, sign_id1 AS sign_id, sign_date1 AS sign_date, sign_remark1 AS sign_remark FROM approval
+    UNION ALL
+    SELECT approval_no, 2, sign_id2, sign_date2, sign_remark2 FROM approval
+    UNION ALL
+    SELECT approval_no, 3, sign_id3, sign_date3, sign_remark3 FROM approval
+    UNION ALL
+    SELECT approval_no, 4, sign_id4, sign_date4, sign_remark4 FROM approval
+    UNION ALL
+    SELECT approval_no, 5, sign_id5, sign_date5, sign_remark5 FROM approval
+) s
+WHERE s.sign_id IS NOT NULL AND TRIM(s.sign_id) <> '';
+
+-- 이관 확인 (회원과 매칭되지 않은 결재자 - 결재/첨언 불가, 기존 컬럼 삭제 전에 모두 지정)
+-- candidates: 같은 이름의 회원 (여러 명이면 동명이인, 비어 있으면 미등록 이름)
+SELECT s.approval_no, s.seq, s.member_name,
+       (SELECT GROUP_CONCAT(m.member_id, ' ', IFNULL(m.member_department, '') ORDER BY m.member_id SEPARATOR ', ')
+        FROM member m WHERE m.member_name = s.member_name) AS candidates
+FROM approval_signer s
+WHERE s.member_id IS NULL
+ORDER BY s.approval_no, s.seq;
+
+-- 직접 지정 예시
+-- UPDATE approval_signer SET member_id = '<member_id>' WHERE approval_no = <approval_no> AND seq = <seq>;
+
+-- 위 확인 쿼리 결과가 없을 때 기존 컬럼 삭제
+-- ALTER TABLE approval
+--     DROP COLUMN sign_id1, DROP COLUMN sign_date1, DROP COLUMN sign_remark1, DROP COLUMN sign_etc1,
+--     DROP COLUMN sign_id2, DROP COLUMN sign_date2, DROP COLUMN sign_remark2, DROP COLUMN sign_etc2,
+--     DROP COLUMN sign_id3, DROP COLUMN sign_date3, DROP COLUMN sign_remark3, DROP COLUMN sign_etc3,
+--     DROP COLUMN sign_id4, DROP COLUMN sign_date4, DROP COLUMN sign_remark4, DROP COLUMN sign_etc4,
+--     DROP COLUMN sign_id5, DROP COLUMN sign_date5, DROP COLUMN sign_remark5, DROP COLUMN sign_etc5;
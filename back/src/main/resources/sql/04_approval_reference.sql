@@ -0,0 +1,68 @@
+-- 참조자 정규화: approval.reference_id ("이름1,이름2,...") -> approval_reference
+CREATE TABLE approval_reference (
+    approval_no INT          NOT NULL,
+    member_id   VARCHAR(255) NOT NULL,
+    member_name VARCHAR(255),
+    PRIMARY KEY (approval_no, member_id)
+);
+
+-- "내가 참조자인 문서" 조회 (member_id 로 찾고 approval_no 로 본문 조인)
+CREATE INDEX idx_approval_reference_member_approval ON approval_reference (member_id, approval_no);
+
+-- 기존 reference_id 분리 결과 (쉼표 구분 이름 -> 행, 이관/확인에 같이 사용 후 삭제)
+CREATE TEMPORARY TABLE approval_reference_name AS
+SELECT DISTINCT r.approval_no, r.member_name
+FROM (
+    SELECT a.approval_no,
+           TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(a.reference_id, ',', n.n), ',', -1)) AS member_name
+    FROM approval a
+    JOIN (SELECT 1 AS n UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5
+          UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9 UNION ALL SELECT 10
+          UNION ALL SELECT 11 UNION ALL SELECT 12 UNION ALL SELECT 13 UNION ALL SELECT 14 UNION ALL SELECT 15
+          UNION ALL SELECT 16 UNION ALL SELECT 17 UNION ALL SELECT 18 UNION ALL SELECT 19 UNION ALL SELECT 20) n
+      ON n.n <= 1 + LENGTH(a.reference_id) - LENGTH(REPLACE(a.reference_id, ',', ''))
+    WHERE a.reference_id IS NOT NULL AND TRIM(a.reference_id) <> ''
+) r
+WHERE r.member_name <> '';
+
+-- 기존 데이터 이관 (이름이 회원 한 명과만 일치할 때만 - 동명이인은 임의로 고르지 않음)
+INSERT IGNORE INTO approval_reference (approval_no, member_id, member_name)
+SELECT r.approval_no, MIN(m.member_id), r.member_name
+FROM approval_reference_name r
+JOIN member m ON m.member_name = r.member_name
+GROUP BY r.approval_no, r.member_name
+HAVING COUNT(*) = 1;
+
+-- 이관하지 못한 참조자 (동명이인/미등록 이름) - member_id 가 기본키라 NULL 로 둘 수 없어 따로 보관, 직접 지정 후 비움
+CREATE TABLE approval_reference_unresolved (
+    approval_no INT          NOT NULL,
+    member_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (approval_no, member_name)
+);
+
+INSERT INTO approval_reference_unresolved (approval_no, member_name)
+SELECT r.approval_no, r.member_name
+FROM approval_reference_name r
+WHERE (SELECT COUNT(*) FROM member m WHERE m.member_name = r.member_name) <> 1;
+
+DROP TEMPORARY TABLE approval_reference_name;
+
+-- 이관 확인 (직접 지정할 참조자 - 기존 컬럼 삭제 전에 모두 처리)
+-- candidates: 같은 이름의 회원 (여러 명이면 동명이인, 비어 있으면 미등록 이름)
+SELECT u.approval_no, u.member_name,
+       (SELECT GROUP_CONCAT(m.member_id, ' ', IFNULL(m.member_department, '') ORDER BY m.member_id SEPARATOR ', ')
+        FROM member m WHERE m.member_name = u.member_name) AS candidates
+FROM approval_reference_unresolved u
+ORDER BY u.approval_no, u.member_name;
+
+-- 직접 지정 예시
+-- INSERT INTO approval_reference (approval_no, member_id, member_name) VALUES (<approval_no>, '<member_id>', '<member_name>');
+-- DELETE FROM approval_reference_unresolved WHERE approval_no = <approval_no> AND member_name = '<member_name>';
+
+-- 이관 확인 (참조자 20명 초과 문서 - 위 분리 범위를 늘려서 다시 실행)
+SELECT approval_no FROM approval
+WHERE 1 + LENGTH(reference_id) - LENGTH(REPLACE(reference_id, ',', '')) > 20;
+
+-- 위 확인 쿼리 결과가 없을 때 기존 컬럼 삭제
+-- ALTER TABLE approval DROP COLUMN reference_id;
+-- DROP TABLE approval_reference_unresolved;
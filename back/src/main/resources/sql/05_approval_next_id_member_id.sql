@@ -0,0 +1,27 @@
+-- approval.next_id: 결재자 이름 -> 결재자 member_id
+-- (03_approval_signer.sql 이관 후 실행, 결재라인에서 같은 이름의 가장 앞 순번 결재자 기준)
+-- 그 결재자의 member_id 가 아직 없으면(동명이인/미등록) 이름을 그대로 둠 → 03 에서 지정 후 다시 실행
+UPDATE approval a
+SET a.next_id = (
+    SELECT s.member_id
+    FROM approval_signer s
+    WHERE s.approval_no = a.approval_no
+      AND s.member_name = a.next_id
+    ORDER BY s.seq
+    LIMIT 1
+)
+WHERE a.next_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM member m WHERE m.member_id = a.next_id)
+  AND (
+    SELECT s.member_id
+    FROM approval_signer s
+    WHERE s.approval_no = a.approval_no
+      AND s.member_name = a.next_id
+    ORDER BY s.seq
+    LIMIT 1
+  ) IS NOT NULL;
+
+-- 이관 확인 (진행중인데 결재자를 찾지 못한 문서 - next_id 가 비었거나 아직 이름으로 남은 문서)
+SELECT a.approval_no, a.next_id FROM approval a
+WHERE a.approval_status = '진행중'
+  AND (a.next_id IS NULL OR NOT EXISTS (SELECT 1 FROM member m WHERE m.member_id = a.next_id));
@@ -0,0 +1,14 @@
+-- 첨부파일 내용 주소 저장소: {file.upload-dir}/blobs/ab/cd/{sha256}
+-- approval_detail 의 *_attach_path 에는 sha256, *_attach_file 에는 원본 파일명을 저장
+-- (기존 행은 path = 디렉터리, file = 파일명 그대로 두고 계속 다운로드 가능)
+CREATE TABLE attachment_blob (
+    sha256      CHAR(64) NOT NULL,
+    size        BIGINT   NOT NULL,
+    ref_count   INT      NOT NULL DEFAULT 0,
+    reg_date    DATETIME(6),
+    update_date DATETIME(6),
+    PRIMARY KEY (sha256)
+);
+
+-- 참조 0 건 정리 (ref_count = 0 and update_date < cutoff)
+CREATE INDEX idx_attachment_blob_ref_count_update_date ON attachment_blob (ref_count, update_date);
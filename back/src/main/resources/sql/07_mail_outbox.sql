@@ -0,0 +1,17 @@
+-- 메일 발송 대기열 (업무 트랜잭션과 함께 저장, 비동기 발송/재시도)
+CREATE TABLE mail_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255),
+    body            LONGTEXT,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 발송 대상 조회 (status = 'PENDING' and next_attempt_at <= now)
+CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
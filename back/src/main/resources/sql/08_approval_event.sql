@@ -0,0 +1,13 @@
+-- 결재 흐름 알림 대기열 (결재 상태 변경과 같은 트랜잭션으로 저장, 받는 사람별 묶음 메일)
+CREATE TABLE approval_event (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    approval_no   INT          NOT NULL,
+    event_type    VARCHAR(20)  NOT NULL,
+    recipient_id  VARCHAR(255) NOT NULL,
+    created_at    DATETIME(6),
+    dispatched_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 대기 중인 알림 조회 (dispatched_at is null, 받는 사람 순)
+CREATE INDEX idx_approval_event_dispatched_recipient ON approval_event (dispatched_at, recipient_id);
@@ -0,0 +1,20 @@
+-- Refresh 토큰 원문(긴 VARCHAR, 인덱스 없음) -> SHA-256 32바이트 + 유니크 인덱스
+-- previous_hash: 교체된 직전 토큰 (재사용 탐지)
+ALTER TABLE refresh_token
+    ADD COLUMN token_hash    BINARY(32) NULL,
+    ADD COLUMN previous_hash BINARY(32) NULL;
+
+-- 기존 토큰은 해시로 변환해서 로그인 유지
+UPDATE refresh_token SET token_hash = UNHEX(SHA2(refresh_token, 256));
+
+-- 같은 토큰이 중복 저장된 행 정리 (유니크 인덱스 생성 전)
+DELETE r1 FROM refresh_token r1
+JOIN refresh_token r2 ON r1.token_hash = r2.token_hash AND r1.id > r2.id;
+
+ALTER TABLE refresh_token
+    MODIFY COLUMN token_hash BINARY(32) NOT NULL,
+    DROP COLUMN refresh_token;
+
+CREATE UNIQUE INDEX uk_refresh_token_token_hash ON refresh_token (token_hash);
+CREATE INDEX idx_refresh_token_previous_hash ON refresh_token (previous_hash);
+CREATE INDEX idx_refresh_token_member_id ON refresh_token (member_id);
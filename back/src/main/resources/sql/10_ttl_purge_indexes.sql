@@ -0,0 +1,3 @@
+-- 보관 기간 지난 데이터 배치 정리 (delete ... where <시각> < ? limit ?) 를 인덱스 범위로 처리
+CREATE INDEX idx_refresh_token_created_date ON refresh_token (created_date);
+CREATE INDEX idx_password_reset_request_expire_time ON password_reset_request (expire_time);
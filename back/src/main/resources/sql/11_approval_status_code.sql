@@ -0,0 +1,17 @@
+-- approval.approval_status: 한글 상태 문자열 -> tinyint 코드 (ApprovalStatus.code)
+-- 기안중=0, 진행중=1, 완료=2, 반려=3
+-- 기존 인덱스(idx_approval_id_status_reg_date, idx_approval_status_reg_date, idx_approval_next_id_status_reg_date)는 컬럼 변경과 함께 재생성됨
+
+-- 이관 전 확인 (알 수 없는 상태 값)
+SELECT approval_no, approval_status FROM approval
+WHERE approval_status NOT IN ('기안중', '진행중', '완료', '반려');
+
+UPDATE approval
+SET approval_status = CASE approval_status
+    WHEN '기안중' THEN '0'
+    WHEN '진행중' THEN '1'
+    WHEN '완료' THEN '2'
+    WHEN '반려' THEN '3'
+END;
+
+ALTER TABLE approval MODIFY COLUMN approval_status TINYINT NOT NULL;
@@ -0,0 +1,7 @@
+-- 진행목록 커서(keyset) 조회용 인덱스
+-- 커서 조건/정렬은 (reg_date, approval_no) 이고, InnoDB 보조 인덱스는 끝에 PK(approval_no)를 포함하므로
+-- 기존 idx_approval_id_status_reg_date / idx_approval_status_reg_date 는 기안자/상태 목록의 커서 조회를 그대로 처리
+
+-- 전체 목록은 기안자/결재자/참조자 OR 조건이라 위 인덱스를 쓰지 못함
+-- reg_date 역순 스캔 + limit 으로 커서 위치부터 필요한 건수만 읽도록 함
+CREATE INDEX idx_approval_reg_date ON approval (reg_date);
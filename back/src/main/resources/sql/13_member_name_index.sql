@@ -0,0 +1,2 @@
+-- 결재자/참조자 이름 조회용 인덱스 (memberId 없이 이름으로 지정된 결재라인, 양식 지정 결재자)
+CREATE INDEX idx_member_name ON member (member_name);
@@ -0,0 +1,171 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalRequestDto;
+import com.poen.berieas.back.domain.approval.dto.BulkApprovalResultDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
+import com.poen.berieas.back.util.MessageUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 일괄 승인/반려 - 문서별 결과, 실패 문서가 나머지를 막지 않음, SQL 수는 문서 수와 무관
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "file.upload-dir=build/test-upload"
+})
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+@Import({ ApprovalBulkService.class, ApprovalStateMachine.class, ApprovalEventService.class, ApprovalStreamService.class,
+    MessageUtil.class })
+class ApprovalBulkServiceTest {
+
+    private static final int QUEUE_SIZE = 60;
+
+    @Autowired
+    private ApprovalBulkService approvalBulkService;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private ApprovalSignerRepository approvalSignerRepository;
+
+    @Autowired
+    private ApprovalEventRepository approvalEventRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 결재할 문서 (결재자1 → 결재자2)
+    private final List<Integer> queue = new ArrayList<>();
+
+    // 결재자1 이 마지막 결재자인 문서
+    private int lastStep;
+
+    // 결재자1 차례가 아닌 문서
+    private int notMine;
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            queue.add(persistApproval("approver1", "approver1", "approver2"));
+        }
+        lastStep = persistApproval("approver1", "approver1");
+        notMine = persistApproval("approver2", "approver2", "approver1");
+        em.flush();
+        em.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("approver1", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private int persistApproval(String nextId, String... signerIds) {
+
+        Approval approval = em.persist(Approval.builder()
+            .approvalId("drafter")
+            .approvalName("기안자")
+            .approvalStatus(ApprovalStatus.IN_PROGRESS)
+            .nextId(nextId)
+            .regId("drafter")
+            .regDate(LocalDateTime.now())
+            .build());
+
+        for (int i = 0; i < signerIds.length; i++) {
+            em.persist(ApprovalSigner.builder()
+                .approvalNo(approval.getApprovalNo())
+                .seq(i + 1)
+                .memberId(signerIds[i])
+                .memberName(signerIds[i])
+                .build());
+        }
+        return approval.getApprovalNo();
+    }
+
+    @Test
+    void approveAppliesEachDocumentIndependently() {
+
+        List<Integer> targets = new ArrayList<>(queue);
+        targets.add(lastStep);
+        targets.add(notMine);
+        targets.add(-1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BulkApprovalResultDto> results = approvalBulkService.process(targets, BulkApprovalRequestDto.Action.APPROVE);
+
+        // Hibernate 문장은 문서 조회 + 결재라인 조회 2건 + 문서별 알림 insert (상태 변경은 JDBC 배치)
+        assertThat(statistics.getPrepareStatementCount() - QUEUE_SIZE - 1).isLessThanOrEqualTo(2);
+
+        assertThat(results).hasSize(targets.size());
+        assertThat(results).filteredOn(BulkApprovalResultDto::success).hasSize(QUEUE_SIZE + 1);
+        assertThat(results).filteredOn(result -> !result.success())
+            .extracting(BulkApprovalResultDto::approvalNo)
+            .containsExactly(notMine, -1);
+
+        em.clear();
+        assertThat(approvalRepository.findByApprovalNo(queue.get(0)).orElseThrow())
+            .extracting(Approval::getApprovalStatus, Approval::getNextId)
+            .containsExactly(ApprovalStatus.IN_PROGRESS, "approver2");
+        assertThat(approvalRepository.findByApprovalNo(lastStep).orElseThrow().getApprovalStatus())
+            .isEqualTo(ApprovalStatus.COMPLETED);
+        assertThat(approvalRepository.findByApprovalNo(notMine).orElseThrow().getNextId()).isEqualTo("approver2");
+        assertThat(approvalSignerRepository.findByApprovalNoOrderBySeqAsc(queue.get(0)).get(0).getSignedAt()).isNotNull();
+
+        assertThat(approvalEventRepository.findAll())
+            .filteredOn(event -> event.getEventType() == ApprovalEventType.COMPLETED)
+            .extracting(ApprovalEvent::getApprovalNo)
+            .containsExactly(lastStep);
+    }
+
+    @Test
+    void rejectEndsTheLineAndRepeatedRequestFails() {
+
+        List<BulkApprovalResultDto> first = approvalBulkService.process(List.of(lastStep, queue.get(0)), BulkApprovalRequestDto.Action.REJECT);
+        List<BulkApprovalResultDto> second = approvalBulkService.process(List.of(lastStep), BulkApprovalRequestDto.Action.REJECT);
+
+        assertThat(first).extracting(BulkApprovalResultDto::approvalNo, BulkApprovalResultDto::success)
+            .containsExactly(tuple(lastStep, true), tuple(queue.get(0), true));
+        assertThat(second).singleElement().satisfies(result -> assertThat(result.success()).isFalse());
+
+        em.clear();
+        assertThat(approvalRepository.findByApprovalNo(queue.get(0)).orElseThrow())
+            .extracting(Approval::getApprovalStatus, Approval::getNextId)
+            .containsExactly(ApprovalStatus.REJECTED, null);
+    }
+}
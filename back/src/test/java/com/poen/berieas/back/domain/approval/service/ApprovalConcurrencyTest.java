@@ -0,0 +1,210 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
+import com.poen.berieas.back.util.MessageUtil;
+
+// 같은 문서를 여러 스레드에서 동시에 승인/반려/취소 - 한 건만 성공해야 함
+// 각 요청이 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "file.upload-dir=build/test-upload")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+@Import({ CacheConfig.class, ApprovalService.class, ApprovalStateMachine.class, ApprovalDetailService.class, ApprovalEventService.class, ApprovalStreamService.class,
+    AttachmentStore.class, MessageUtil.class })
+class ApprovalConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @MockitoBean
+    private FormCacheService formCacheService;
+
+    @MockitoBean
+    private MemberCacheService memberCacheService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ApprovalDetailService approvalDetailService;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private ApprovalSignerRepository approvalSignerRepository;
+
+    @Autowired
+    private ApprovalEventRepository approvalEventRepository;
+
+    private int approvalNo;
+
+    @BeforeEach
+    void setUp() {
+
+        Approval approval = approvalRepository.save(Approval.builder()
+            .approvalId("drafter")
+            .approvalName("기안자")
+            .approvalStatus(ApprovalStatus.IN_PROGRESS)
+            .nextId("approver1")
+            .regId("drafter")
+            .regDate(LocalDateTime.now())
+            .build());
+        approvalNo = approval.getApprovalNo();
+
+        approvalSignerRepository.save(ApprovalSigner.builder().approvalNo(approvalNo).seq(1).memberId("approver1").memberName("결재자1").build());
+        approvalSignerRepository.save(ApprovalSigner.builder().approvalNo(approvalNo).seq(2).memberId("approver2").memberName("결재자2").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        approvalEventRepository.deleteAll();
+        approvalSignerRepository.deleteAll();
+        approvalRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentApprovalsAdvanceTheLineOnce() throws Exception {
+
+        List<Outcome> outcomes = race(i -> run("approver1", () -> approvalService.doApproval(approvalNo)));
+
+        assertThat(outcomes).filteredOn(Outcome.SUCCESS::equals).hasSize(1);
+
+        Approval approval = approvalRepository.findByApprovalNo(approvalNo).orElseThrow();
+        assertThat(approval.getApprovalStatus()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(approval.getNextId()).isEqualTo("approver2");
+        assertThat(approvalEventRepository.findAll())
+            .singleElement()
+            .satisfies(event -> assertThat(event.getEventType()).isEqualTo(ApprovalEventType.SIGN_REQUESTED));
+    }
+
+    @Test
+    void approveRejectAndCancelRaceLeavesOneConsistentState() throws Exception {
+
+        List<Outcome> outcomes = race(i -> switch (i % 3) {
+            case 0 -> run("approver1", () -> approvalService.doApproval(approvalNo));
+            case 1 -> run("approver1", () -> approvalService.doReject(approvalNo));
+            default -> run("drafter", () -> approvalDetailService.cancelApproval(approvalNo));
+        });
+
+        assertThat(outcomes).filteredOn(Outcome.SUCCESS::equals).hasSize(1);
+
+        Approval approval = approvalRepository.findByApprovalNo(approvalNo).orElseThrow();
+        List<ApprovalSigner> signers = approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo);
+        long signed = signers.stream().filter(signer -> signer.getSignedAt() != null).count();
+
+        switch (approval.getApprovalStatus()) {
+            case DRAFT -> assertThat(signed).isZero();
+            case IN_PROGRESS -> {
+                assertThat(approval.getNextId()).isEqualTo("approver2");
+                assertThat(signers.get(0).getSignedAt()).isNotNull();
+                assertThat(signed).isEqualTo(1);
+            }
+            case REJECTED -> {
+                assertThat(approval.getNextId()).isNull();
+                assertThat(signed).isEqualTo(1);
+            }
+            default -> throw new AssertionError("unexpected status " + approval.getApprovalStatus());
+        }
+    }
+
+    @Test
+    void duplicateApprovalOnConsecutiveSlotsSignsEachSlotOnce() throws Exception {
+
+        // 같은 결재자가 1, 2 순번 - 문서 상태/결재자는 1 순번 승인 후에도 그대로
+        ApprovalSigner second = approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo).get(1);
+        second.setMemberId("approver1");
+        approvalSignerRepository.save(second);
+        approvalSignerRepository.save(ApprovalSigner.builder().approvalNo(approvalNo).seq(3).memberId("approver2").memberName("결재자2").build());
+
+        List<Outcome> outcomes = race(i -> run("approver1", () -> approvalService.doApproval(approvalNo)));
+
+        // 성공한 요청 수 = 실제로 기록된 결재 순번 수 (기록 없이 성공한 중복 요청 없음)
+        long signed = approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approvalNo).stream()
+            .filter(signer -> signer.getSignedAt() != null)
+            .count();
+        assertThat(outcomes).filteredOn(Outcome.SUCCESS::equals).hasSize((int) signed);
+        assertThat(signed).isBetween(1L, 2L);
+    }
+
+    private enum Outcome { SUCCESS, CONFLICT, REJECTED }
+
+    private interface Task {
+        Outcome call(int index) throws Exception;
+    }
+
+    // 모든 스레드를 동시에 출발시켜 결과 수집
+    private List<Outcome> race(Task task) throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call(index);
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 충돌(409) 또는 이미 바뀐 상태를 읽은 경우(400) 모두 실패로 집계
+    private Outcome run(String memberId, Runnable action) {
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(memberId, null));
+        try {
+            action.run();
+            return Outcome.SUCCESS;
+        } catch (OptimisticLockingFailureException e) {
+            return Outcome.CONFLICT;
+        } catch (IllegalArgumentException e) {
+            return Outcome.REJECTED;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.repository.MailOutboxRepository;
+import com.poen.berieas.back.domain.email.service.EmailService;
+import com.poen.berieas.back.domain.email.service.MailDispatcher;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+import com.poen.berieas.back.util.MessageUtil;
+
+// 결재 흐름 알림 → 받는 사람별 묶음 메일 테스트
+@DataJpaTest(properties = "file.upload-dir=build/test-upload")
+@Import({ CacheConfig.class, ApprovalService.class, ApprovalStateMachine.class, ApprovalEventService.class, ApprovalStreamService.class, ApprovalDigestDispatcher.class,
+    AttachmentStore.class, EmailService.class, MessageUtil.class })
+class ApprovalDigestDispatcherTest {
+
+    @MockitoBean
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ApprovalDigestDispatcher approvalDigestDispatcher;
+
+    @Autowired
+    private ApprovalEventRepository approvalEventRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private int first;
+    private int second;
+
+    @BeforeEach
+    void setUp() {
+
+        persistMember("drafter", "기안자");
+        persistMember("approver1", "결재자1");
+        persistMember("approver2", "결재자2");
+
+        first = persistApproval("휴가 신청");
+        second = persistApproval("출장 신청");
+        em.flush();
+        em.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("approver1", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void persistMember(String memberId, String memberName) {
+
+        em.persist(Member.builder()
+            .memberId(memberId)
+            .memberName(memberName)
+            .memberEmail(memberId + "@example.com")
+            .memberDepartment("개발팀")
+            .memberPosition("사원")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("N")
+            .build());
+    }
+
+    private int persistApproval(String title) {
+
+        Approval approval = em.persist(Approval.builder()
+            .approvalId("drafter")
+            .approvalName("기안자")
+            .approvalStatus(ApprovalStatus.IN_PROGRESS)
+            .nextId("approver1")
+            .regId("drafter")
+            .regDate(LocalDateTime.now())
+            .build());
+
+        em.persist(ApprovalSigner.builder().approvalNo(approval.getApprovalNo()).seq(1).memberId("approver1").memberName("결재자1").build());
+        em.persist(ApprovalSigner.builder().approvalNo(approval.getApprovalNo()).seq(2).memberId("approver2").memberName("결재자2").build());
+        em.persist(ApprovalDetail.builder().approvalNo(approval.getApprovalNo()).approvalType("일반").approvalTitle(title).build());
+        return approval.getApprovalNo();
+    }
+
+    @Test
+    void stateChangesAreRecordedAsEvents() {
+
+        approvalService.doApproval(first);
+        approvalService.doReject(second);
+
+        assertThat(approvalEventRepository.findAll())
+            .extracting(ApprovalEvent::getEventType, ApprovalEvent::getRecipientId)
+            .containsExactlyInAnyOrder(
+                tuple(ApprovalEventType.SIGN_REQUESTED, "approver2"),
+                tuple(ApprovalEventType.REJECTED, "drafter"));
+    }
+
+    @Test
+    void eventsAreCoalescedIntoOneMailPerRecipient() {
+
+        approvalService.doApproval(first);
+        approvalService.doApproval(second);
+
+        assertThat(approvalDigestDispatcher.dispatch()).isEqualTo(1);
+
+        List<MailOutbox> mails = mailOutboxRepository.findAll();
+        assertThat(mails).hasSize(1);
+        assertThat(mails.get(0).getRecipient()).isEqualTo("approver2@example.com");
+        assertThat(mails.get(0).getBody()).contains("[결재 요청] 2건", "휴가 신청", "출장 신청");
+
+        // 처리된 알림은 다시 나가지 않음
+        assertThat(approvalEventRepository.findAll()).allSatisfy(event -> assertThat(event.getDispatchedAt()).isNotNull());
+        assertThat(approvalDigestDispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void lastApprovalNotifiesDrafter() {
+
+        approvalService.doApproval(first);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("approver2", null));
+        approvalService.doApproval(first);
+
+        approvalDigestDispatcher.dispatch();
+
+        assertThat(mailOutboxRepository.findAll())
+            .extracting(MailOutbox::getRecipient)
+            .containsExactlyInAnyOrder("approver2@example.com", "drafter@example.com");
+    }
+}
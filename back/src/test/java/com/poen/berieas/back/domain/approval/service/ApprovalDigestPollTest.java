@@ -0,0 +1,112 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEvent;
+import com.poen.berieas.back.domain.approval.entity.ApprovalEventType;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.approval.repository.ApprovalDetailRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalEventRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.repository.MailOutboxRepository;
+import com.poen.berieas.back.domain.email.service.EmailService;
+import com.poen.berieas.back.domain.email.service.MailDispatcher;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+import com.poen.berieas.back.domain.member.repository.MemberRepository;
+
+// 스케줄러 경로(poll) 그대로 - 호출하는 쪽 트랜잭션 없이도 알림 처리 표시/메일 등록이 커밋되어야 함
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ApprovalDigestDispatcher.class, EmailService.class })
+class ApprovalDigestPollTest {
+
+    @MockitoBean
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private ApprovalDigestDispatcher approvalDigestDispatcher;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private ApprovalDetailRepository approvalDetailRepository;
+
+    @Autowired
+    private ApprovalEventRepository approvalEventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+
+        memberRepository.save(Member.builder()
+            .memberId("approver1")
+            .memberName("결재자1")
+            .memberEmail("approver1@example.com")
+            .memberDepartment("개발팀")
+            .memberPosition("사원")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("N")
+            .build());
+
+        Approval approval = approvalRepository.save(Approval.builder()
+            .approvalId("drafter")
+            .approvalName("기안자")
+            .approvalStatus(ApprovalStatus.IN_PROGRESS)
+            .nextId("approver1")
+            .regId("drafter")
+            .regDate(LocalDateTime.now())
+            .build());
+        approvalDetailRepository.save(ApprovalDetail.builder().approvalNo(approval.getApprovalNo()).approvalType("일반").approvalTitle("휴가 신청").build());
+
+        approvalEventRepository.save(ApprovalEvent.builder()
+            .approvalNo(approval.getApprovalNo())
+            .eventType(ApprovalEventType.SIGN_REQUESTED)
+            .recipientId("approver1")
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        mailOutboxRepository.deleteAll();
+        approvalEventRepository.deleteAll();
+        approvalDetailRepository.deleteAll();
+        approvalRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void scheduledPollCommitsDigest() {
+
+        approvalDigestDispatcher.poll();
+
+        assertThat(mailOutboxRepository.findAll())
+            .extracting(MailOutbox::getRecipient)
+            .containsExactly("approver1@example.com");
+        assertThat(approvalEventRepository.findAll()).allSatisfy(event -> assertThat(event.getDispatchedAt()).isNotNull());
+    }
+}
@@ -0,0 +1,177 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.dto.ApprovalRequestDto;
+import com.poen.berieas.back.domain.approval.dto.FormCacheDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalReference;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.repository.ApprovalReferenceRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalRepository;
+import com.poen.berieas.back.domain.approval.repository.ApprovalSignerRepository;
+import com.poen.berieas.back.domain.member.dto.MemberCacheDto;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+import com.poen.berieas.back.domain.member.service.MemberCacheService;
+import com.poen.berieas.back.util.MessageUtil;
+
+// 결재자/참조자 지정 - 동명이인은 memberId 로만 지정 가능, 이름만 오면 오류
+@DataJpaTest(properties = "file.upload-dir=build/test-upload")
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+@Import({ CacheConfig.class, ApprovalDetailService.class, ApprovalStateMachine.class, ApprovalEventService.class, ApprovalStreamService.class,
+    AttachmentStore.class, MessageUtil.class })
+class ApprovalLineResolutionTest {
+
+    private static final int FORM_NO = 1;
+
+    @MockitoBean
+    private FormCacheService formCacheService;
+
+    @MockitoBean
+    private MemberCacheService memberCacheService;
+
+    @Autowired
+    private ApprovalDetailService approvalDetailService;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private ApprovalSignerRepository approvalSignerRepository;
+
+    @Autowired
+    private ApprovalReferenceRepository approvalReferenceRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+
+        persistMember("drafter", "기안자");
+        persistMember("kim1", "김민수");
+        persistMember("kim2", "김민수");
+        persistMember("lee", "이영희");
+
+        // 양식 지정 결재자 없음 (기안자가 선택)
+        given(formCacheService.getForm(FORM_NO)).willReturn(Optional.of(
+            new FormCacheDto(FORM_NO, "휴가", "휴가 신청서", "", Arrays.asList(null, null, null, null, null), List.of())));
+        given(memberCacheService.getMember("drafter")).willReturn(Optional.of(
+            new MemberCacheDto("drafter", null, "기안자", null, "개발팀", "사원", RoleType.USER, "Y", "N")));
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("drafter", null));
+    }
+
+    private void persistMember(String memberId, String memberName) {
+
+        em.persist(Member.builder()
+            .memberId(memberId)
+            .memberName(memberName)
+            .memberDepartment("개발팀")
+            .memberPosition("사원")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("N")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private ApprovalRequestDto draft(String signId1, String signId2) {
+
+        ApprovalRequestDto dto = new ApprovalRequestDto();
+        dto.setFormNo(FORM_NO);
+        dto.setApprovalTitle("휴가 신청");
+        dto.setSignId1(signId1);
+        dto.setSignId2(signId2);
+        return dto;
+    }
+
+    private List<ApprovalSigner> savedSigners() {
+
+        Approval approval = approvalRepository.findAll().get(0);
+        return approvalSignerRepository.findByApprovalNoOrderBySeqAsc(approval.getApprovalNo());
+    }
+
+    @Test
+    void homonymSignerByNameIsRejected() {
+
+        assertThatThrownBy(() -> approvalDetailService.temporaryDraft(draft("이영희", "김민수"), List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("김민수");
+    }
+
+    @Test
+    void signerMemberIdSelectsHomonym() {
+
+        ApprovalRequestDto dto = draft("이영희", "김민수");
+        dto.setSignMemberIds(List.of("lee", "kim2"));
+
+        approvalDetailService.temporaryDraft(dto, List.of());
+
+        assertThat(savedSigners())
+            .extracting(ApprovalSigner::getMemberId)
+            .containsExactly("lee", "kim2");
+    }
+
+    @Test
+    void uniqueNameStillResolvesWithoutMemberId() {
+
+        approvalDetailService.temporaryDraft(draft("이영희", null), List.of());
+
+        assertThat(savedSigners())
+            .singleElement()
+            .satisfies(signer -> assertThat(signer.getMemberId()).isEqualTo("lee"));
+    }
+
+    @Test
+    void homonymReferenceByNameIsRejected() {
+
+        ApprovalRequestDto dto = draft("이영희", null);
+        dto.setReferenceId("김민수");
+
+        assertThatThrownBy(() -> approvalDetailService.temporaryDraft(dto, List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("김민수");
+    }
+
+    @Test
+    void referenceMemberIdsSelectHomonym() {
+
+        ApprovalRequestDto dto = draft("이영희", null);
+        dto.setReferenceId("김민수");
+        dto.setReferenceMemberIds(List.of("kim1"));
+
+        approvalDetailService.temporaryDraft(dto, List.of());
+
+        Approval approval = approvalRepository.findAll().get(0);
+        assertThat(approvalReferenceRepository.findByApprovalNo(approval.getApprovalNo()))
+            .extracting(ApprovalReference::getMemberId)
+            .containsExactly("kim1");
+    }
+}
@@ -0,0 +1,324 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.dto.DashboardResponseDto;
+import com.poen.berieas.back.domain.approval.dto.ProgressListResponseDto;
+import com.poen.berieas.back.domain.approval.dto.ProgressSliceDto;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
+import com.poen.berieas.back.domain.approval.entity.ApprovalReference;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+import com.poen.berieas.back.util.MessageUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 진행목록 한 페이지가 사용하는 SQL 수 / DB 필터링 회귀 테스트
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "file.upload-dir=build/test-upload"
+})
+@Import({ CacheConfig.class, ApprovalService.class, ApprovalStateMachine.class, ApprovalEventService.class, ApprovalStreamService.class, AttachmentStore.class, MessageUtil.class })
+class ApprovalServiceQueryCountTest {
+
+    // 페이지 조회(상세 조인) + count + 결재라인 IN 조회
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    // 커서 조회(상세 조인) + 결재라인 IN 조회 (count 없음)
+    private static final long MAX_STATEMENTS_PER_SLICE = 2;
+
+    // 상태별 건수 + 상신 문서 + 결재라인 + 결재할 문서 (결재할 문서가 표시 건수를 넘으면 결재라인 대신 count)
+    private static final long MAX_STATEMENTS_PER_DASHBOARD = 4;
+
+    private static final int PAGE_SIZE = 15;
+
+    // 참조자가 지정된 문서 수
+    private static final int REFERENCED_COUNT = 3;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        persistMember("drafter", "기안자");
+        persistMember("approver", "결재자");
+        persistMember("referrer", "참조자");
+        persistMember("partial", "참조");
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            Approval approval = em.persist(Approval.builder()
+                .approvalId("drafter")
+                .approvalName("기안자")
+                .approvalDepartment("개발팀")
+                .approvalStatus(ApprovalStatus.IN_PROGRESS)
+                .nextId("approver")
+                .regId("drafter")
+                .regDate(base.plusMinutes(i))
+                .build());
+
+            em.persist(ApprovalSigner.builder()
+                .approvalNo(approval.getApprovalNo())
+                .seq(1)
+                .memberId("approver")
+                .memberName("결재자")
+                .build());
+
+            if (i < REFERENCED_COUNT) {
+                em.persist(ApprovalReference.builder()
+                    .approvalNo(approval.getApprovalNo())
+                    .memberId("referrer")
+                    .memberName("참조자")
+                    .build());
+            }
+
+            em.persist(ApprovalDetail.builder()
+                .approvalNo(approval.getApprovalNo())
+                .approvalType("휴가")
+                .approvalTitle("휴가 신청 " + i)
+                .build());
+        }
+        em.flush();
+        em.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("drafter", null));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private void persistMember(String memberId, String memberName) {
+
+        em.persist(Member.builder()
+            .memberId(memberId)
+            .memberName(memberName)
+            .memberDepartment("개발팀")
+            .memberPosition("사원")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("N")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void allApprovalsPageWithKeywordUsesFixedStatementCount() {
+
+        Page<ProgressListResponseDto> page = approvalService.getAllApprovals(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")),
+            LocalDate.now().minusDays(2), null, "휴가");
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void inProgressPageUsesFixedStatementCount() {
+
+        Page<ProgressListResponseDto> page = approvalService.getInProgressApprovals(
+            PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")), null, null, "휴가");
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getApprovalTitle()).startsWith("휴가 신청"));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void keywordFilterIsAppliedBeforePaging() {
+
+        // "휴가 신청 1", "휴가 신청 10" ~ "휴가 신청 19"
+        Page<ProgressListResponseDto> page = approvalService.getAllApprovals(
+            PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "regDate")), null, null, "신청 1");
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(11);
+    }
+
+    @Test
+    void keywordMatchesStatusLabel() {
+
+        // 상태는 tinyint 로 저장되지만 라벨("진행중")로 검색 가능
+        Page<ProgressListResponseDto> page = approvalService.getAllApprovals(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")), null, null, "진행");
+
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 2);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getApprovalStatus()).isEqualTo("진행중"));
+    }
+
+    @Test
+    void cursorWalksEveryRowOnceWithFixedStatementCount() {
+
+        List<Integer> seen = new ArrayList<>();
+        String cursor = "";
+        int slices = 0;
+        do {
+            statistics.clear();
+            ProgressSliceDto slice = approvalService.getProgressSlice(ProgressListType.ALL, cursor, 7, null, null, null, false);
+
+            assertThat(slice.approximateTotal()).isNull();
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_SLICE);
+            slice.content().forEach(dto -> seen.add(dto.getApprovalNo()));
+            cursor = slice.nextCursor();
+            slices++;
+        } while (cursor != null);
+
+        // 30건 / 7 -> 5번, 중복/누락 없이 최신순
+        assertThat(slices).isEqualTo(5);
+        assertThat(seen).hasSize(PAGE_SIZE * 2).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+    }
+
+    @Test
+    void offsetAndCursorListsMatchForEveryScope() {
+
+        for (String memberId : List.of("drafter", "approver", "referrer")) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(memberId, null));
+
+            for (ProgressListType type : ProgressListType.values()) {
+                Page<ProgressListResponseDto> page = getPage(type, PageRequest.of(0, PAGE_SIZE * 4));
+                ProgressSliceDto slice = approvalService.getProgressSlice(type, "", PAGE_SIZE * 4, null, null, null, true);
+
+                // 같은 범위 조건 - 행/순서/건수 일치
+                assertThat(slice.content()).extracting(ProgressListResponseDto::getApprovalNo)
+                    .as("%s / %s", memberId, type)
+                    .containsExactlyElementsOf(page.getContent().stream().map(ProgressListResponseDto::getApprovalNo).toList());
+                assertThat(slice.approximateTotal()).isEqualTo(page.getTotalElements());
+            }
+        }
+    }
+
+    private Page<ProgressListResponseDto> getPage(ProgressListType type, PageRequest pageable) {
+
+        return switch (type) {
+            case ALL -> approvalService.getAllApprovals(pageable, null, null, null);
+            case IN_PROGRESS -> approvalService.getInProgressApprovals(pageable, null, null, null);
+            case TEMPORARY_SAVED -> approvalService.getTemporarySavedApprovals(pageable, null, null, null);
+            case RETURNED -> approvalService.getReturnedApprovals(pageable, null, null, null);
+            case COMPLETED -> approvalService.getCompletedApprovals(pageable, null, null, null);
+        };
+    }
+
+    @Test
+    void cursorCountIsOptional() {
+
+        ProgressSliceDto slice = approvalService.getProgressSlice(ProgressListType.IN_PROGRESS, null, PAGE_SIZE, null, null, "신청 1", true);
+
+        assertThat(slice.content()).hasSize(PAGE_SIZE - 4);
+        assertThat(slice.nextCursor()).isNull();
+        assertThat(slice.approximateTotal()).isEqualTo(11);
+    }
+
+    @Test
+    void dashboardUsesFixedStatementCount() {
+
+        DashboardResponseDto dashboard = approvalService.getDashboard();
+
+        assertThat(dashboard.getTotal()).isEqualTo(PAGE_SIZE * 2);
+        assertThat(dashboard.getInProgress()).isEqualTo(PAGE_SIZE * 2);
+        assertThat(dashboard.getCompleted()).isZero();
+        assertThat(dashboard.getMySubmitted()).hasSize(5);
+        assertThat(dashboard.getMySubmitted().get(0).getApprovalTitle()).isEqualTo("휴가 신청 " + (PAGE_SIZE * 2 - 1));
+        assertThat(dashboard.getMySubmitted()).allSatisfy(dto -> assertThat(dto.getSignId()).isEqualTo("결재자"));
+        assertThat(dashboard.getMyPending()).isEmpty();
+        assertThat(dashboard.getPendingCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_DASHBOARD);
+    }
+
+    @Test
+    void signerSeesDocumentsThroughSignerTable() {
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("approver", null));
+
+        Page<ProgressListResponseDto> page = approvalService.getAllApprovals(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")), null, null, null);
+
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 2);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getApprovalName()).isEqualTo("기안자");
+            assertThat(dto.getApprovalSigner()).isEqualTo("결재자");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void referrerSeesOnlyReferencedDocuments() {
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("referrer", null));
+
+        Page<ProgressListResponseDto> page = approvalService.getInProgressApprovals(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")), null, null, null);
+
+        assertThat(page.getTotalElements()).isEqualTo(REFERENCED_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void partialNameMatchDoesNotGrantReference() {
+
+        // "참조" 는 "참조자" 의 부분 문자열이지만 참조자가 아님
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("partial", null));
+
+        Page<ProgressListResponseDto> page = approvalService.getAllApprovals(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate")), null, null, null);
+
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    void pendingListIsKeyedOnMemberId() {
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("approver", null));
+
+        DashboardResponseDto dashboard = approvalService.getDashboard();
+
+        assertThat(dashboard.getTotal()).isZero();
+        // 최근 10건만 내려주고 전체 건수는 따로
+        assertThat(dashboard.getMyPending()).hasSize(10);
+        assertThat(dashboard.getMyPending().get(0).getApprovalTitle()).isEqualTo("휴가 신청 " + (PAGE_SIZE * 2 - 1));
+        assertThat(dashboard.getPendingCount()).isEqualTo(PAGE_SIZE * 2);
+        assertThat(dashboard.getMyPending()).allSatisfy(dto -> assertThat(dto.getSignId()).isEqualTo("기안자"));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_DASHBOARD);
+    }
+}
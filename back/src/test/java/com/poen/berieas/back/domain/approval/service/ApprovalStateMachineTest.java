@@ -0,0 +1,158 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalAction;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+
+// 결재 상태 전이표 / 가드 / 훅 단위 테스트 (스프링 없이)
+class ApprovalStateMachineTest {
+
+    private final List<ApprovalTransition> fired = new ArrayList<>();
+
+    private final ApprovalStateMachine stateMachine = new ApprovalStateMachine(List.of(fired::add));
+
+    @Test
+    void transitionTableCoversEveryStateAndAction() {
+
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.DRAFT, ApprovalAction.SUBMIT)).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.DRAFT, ApprovalAction.SAVE)).isEqualTo(ApprovalStatus.DRAFT);
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.IN_PROGRESS, ApprovalAction.APPROVE)).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.IN_PROGRESS, ApprovalAction.COMPLETE)).isEqualTo(ApprovalStatus.COMPLETED);
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.IN_PROGRESS, ApprovalAction.REJECT)).isEqualTo(ApprovalStatus.REJECTED);
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.IN_PROGRESS, ApprovalAction.CANCEL)).isEqualTo(ApprovalStatus.DRAFT);
+
+        // 완료/반려는 종료 상태
+        for (ApprovalAction action : ApprovalAction.values()) {
+            assertThat(ApprovalStateMachine.next(ApprovalStatus.COMPLETED, action)).isNull();
+            assertThat(ApprovalStateMachine.next(ApprovalStatus.REJECTED, action)).isNull();
+        }
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.DRAFT, ApprovalAction.APPROVE)).isNull();
+        assertThat(ApprovalStateMachine.next(ApprovalStatus.IN_PROGRESS, ApprovalAction.SUBMIT)).isNull();
+    }
+
+    @Test
+    void newDocumentStartsAsDraft() {
+
+        Approval approval = new Approval();
+
+        ApprovalTransition transition = stateMachine.plan(approval, ApprovalAction.SUBMIT, "drafter");
+
+        assertThat(transition.from()).isEqualTo(ApprovalStatus.DRAFT);
+        assertThat(transition.to()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void guardsCheckTheActor() {
+
+        Approval approval = inProgress();
+
+        assertThatThrownBy(() -> stateMachine.plan(approval, ApprovalAction.APPROVE, "drafter"))
+            .isInstanceOfSatisfying(ApprovalTransitionException.class,
+                e -> assertThat(e.getMessageKey()).isEqualTo("error.approval.not.current.signer"));
+        assertThatThrownBy(() -> stateMachine.plan(approval, ApprovalAction.CANCEL, "approver1"))
+            .isInstanceOfSatisfying(ApprovalTransitionException.class,
+                e -> assertThat(e.getMessageKey()).isEqualTo("error.approval.cancel.drafter.only"));
+
+        assertThat(stateMachine.plan(approval, ApprovalAction.REJECT, "approver1").to()).isEqualTo(ApprovalStatus.REJECTED);
+        assertThat(stateMachine.plan(approval, ApprovalAction.CANCEL, "drafter").to()).isEqualTo(ApprovalStatus.DRAFT);
+    }
+
+    @Test
+    void invalidStateIsRejected() {
+
+        Approval approval = inProgress();
+        approval.setApprovalStatus(ApprovalStatus.COMPLETED);
+
+        assertThatThrownBy(() -> stateMachine.plan(approval, ApprovalAction.CANCEL, "drafter"))
+            .isInstanceOfSatisfying(ApprovalTransitionException.class,
+                e -> assertThat(e.getMessageKey()).isEqualTo("error.approval.cancel.only.inprogress"));
+        assertThatThrownBy(() -> stateMachine.plan(approval, ApprovalAction.SAVE, "drafter"))
+            .isInstanceOfSatisfying(ApprovalTransitionException.class,
+                e -> assertThat(e.getMessageKey()).isEqualTo("error.approval.not.draft"));
+    }
+
+    @Test
+    void hooksReceiveFiredTransitions() {
+
+        Approval approval = inProgress();
+        ApprovalTransition transition = stateMachine.plan(approval, ApprovalAction.APPROVE, "approver1");
+
+        assertThat(fired).isEmpty();
+        stateMachine.fire(transition);
+
+        assertThat(fired).containsExactly(transition);
+        assertThat(transition.previousNextId()).isEqualTo("approver1");
+    }
+
+    @Test
+    void signPlanPassesToNextSignerOrCompletes() {
+
+        List<ApprovalSigner> signers = List.of(signer(1, "approver1", null), signer(2, "approver2", null));
+
+        ApprovalSignPlan first = stateMachine.planSign(inProgress(), signers, ApprovalAction.APPROVE, "approver1");
+        assertThat(first.transition().action()).isEqualTo(ApprovalAction.APPROVE);
+        assertThat(first.signer().getSeq()).isEqualTo(1);
+        assertThat(first.nextId()).isEqualTo("approver2");
+
+        // 마지막 결재자는 완료, 반려는 다음 결재자 없음
+        Approval last = inProgress();
+        last.setNextId("approver2");
+        ApprovalSignPlan complete = stateMachine.planSign(last, signers, ApprovalAction.APPROVE, "approver2");
+        assertThat(complete.transition().to()).isEqualTo(ApprovalStatus.COMPLETED);
+        assertThat(complete.nextId()).isNull();
+
+        ApprovalSignPlan reject = stateMachine.planSign(inProgress(), signers, ApprovalAction.REJECT, "approver1");
+        assertThat(reject.transition().to()).isEqualTo(ApprovalStatus.REJECTED);
+        assertThat(reject.nextId()).isNull();
+    }
+
+    @Test
+    void signPlanRequiresUnsignedTurn() {
+
+        List<ApprovalSigner> signers = List.of(signer(1, "approver1", LocalDateTime.now()));
+
+        assertThatThrownBy(() -> stateMachine.planSign(inProgress(), signers, ApprovalAction.APPROVE, "approver1"))
+            .isInstanceOfSatisfying(ApprovalTransitionException.class,
+                e -> assertThat(e.getMessageKey()).isEqualTo("error.approval.already.approved"));
+    }
+
+    @Test
+    void statusCodesRoundTrip() {
+
+        for (ApprovalStatus status : ApprovalStatus.values()) {
+            assertThat(ApprovalStatus.fromCode(status.getCode())).isEqualTo(status);
+        }
+        assertThat(ApprovalStatus.matchingLabel("진행")).containsExactly(ApprovalStatus.IN_PROGRESS);
+        assertThat(ApprovalStatus.matchingLabel("휴가")).isEmpty();
+    }
+
+    private Approval inProgress() {
+
+        return Approval.builder()
+            .approvalNo(1)
+            .approvalId("drafter")
+            .approvalStatus(ApprovalStatus.IN_PROGRESS)
+            .nextId("approver1")
+            .build();
+    }
+
+    private ApprovalSigner signer(int seq, String memberId, LocalDateTime signedAt) {
+
+        return ApprovalSigner.builder()
+            .approvalNo(1)
+            .seq(seq)
+            .memberId(memberId)
+            .signedAt(signedAt)
+            .build();
+    }
+}
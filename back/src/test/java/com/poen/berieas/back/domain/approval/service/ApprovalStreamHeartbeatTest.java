@@ -0,0 +1,110 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 구독자가 전송 대기열(queue-size)보다 많아도 하트비트/변경분이 버려지지 않아야 함
+class ApprovalStreamHeartbeatTest {
+
+    private static final int QUEUE_SIZE = 4;
+    private static final int SUBSCRIBERS = 50;
+
+    private ApprovalStreamService streamService;
+
+    private MockMvc mockMvc;
+
+    @RestController
+    static class StreamController {
+
+        private final ApprovalStreamService streamService;
+
+        StreamController(ApprovalStreamService streamService) {
+            this.streamService = streamService;
+        }
+
+        @GetMapping("/stream/{memberId}")
+        SseEmitter stream(@PathVariable("memberId") String memberId) {
+            return streamService.subscribe(memberId, 0);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        streamService = new ApprovalStreamService(null);
+        ReflectionTestUtils.setField(streamService, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(streamService, "workers", 1);
+        ReflectionTestUtils.setField(streamService, "queueSize", QUEUE_SIZE);
+        streamService.start();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(streamService)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.stop();
+    }
+
+    private List<MockHttpServletResponse> subscribeAll() throws Exception {
+
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            responses.add(mockMvc.perform(get("/stream/member" + i))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse());
+        }
+        return responses;
+    }
+
+    @Test
+    void heartbeatReachesEverySubscriberBeyondQueueSize() throws Exception {
+
+        List<MockHttpServletResponse> responses = subscribeAll();
+
+        streamService.heartbeat();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(responses).allSatisfy(response ->
+                assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains(":ping")));
+    }
+
+    @Test
+    void deltaIsNotDroppedBehindHeartbeats() throws Exception {
+
+        List<MockHttpServletResponse> responses = subscribeAll();
+
+        // 하트비트가 여러 번 겹쳐도 변경분 대기열은 비어 있음
+        for (int i = 0; i < QUEUE_SIZE * 2; i++) {
+            streamService.heartbeat();
+        }
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            streamService.pendingRemoved("member" + i, 100 + i);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            for (int i = 0; i < QUEUE_SIZE; i++) {
+                assertThat(responses.get(i).getContentAsString(StandardCharsets.UTF_8))
+                    .contains("event:pending", "\"approvalNo\":" + (100 + i));
+            }
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.controller.ApprovalController;
+import com.poen.berieas.back.domain.approval.entity.Approval;
+import com.poen.berieas.back.domain.approval.entity.ApprovalDetail;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSigner;
+import com.poen.berieas.back.domain.approval.entity.ApprovalStatus;
+import com.poen.berieas.back.util.MessageUtil;
+
+// 내가 결재할 문서 실시간 알림 (SSE) 테스트
+// 변경분은 커밋 후 전송되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "file.upload-dir=build/test-upload")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CacheConfig.class, ApprovalService.class, ApprovalStateMachine.class, ApprovalEventService.class, ApprovalStreamService.class,
+    AttachmentStore.class, MessageUtil.class })
+class ApprovalStreamServiceTest {
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private AttachmentStore attachmentStore;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    private int approvalNo;
+
+    @BeforeEach
+    void setUp() {
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ApprovalController(approvalService, null, attachmentStore)).build();
+
+        approvalNo = new TransactionTemplate(transactionManager).execute(status -> {
+            Approval approval = em.persist(Approval.builder()
+                .approvalId("drafter")
+                .approvalName("기안자")
+                .approvalStatus(ApprovalStatus.IN_PROGRESS)
+                .nextId("approver1")
+                .regId("drafter")
+                .regDate(LocalDateTime.now())
+                .build());
+
+            em.persist(ApprovalSigner.builder().approvalNo(approval.getApprovalNo()).seq(1).memberId("approver1").memberName("결재자1").build());
+            em.persist(ApprovalSigner.builder().approvalNo(approval.getApprovalNo()).seq(2).memberId("approver2").memberName("결재자2").build());
+            em.persist(ApprovalDetail.builder().approvalNo(approval.getApprovalNo()).approvalType("일반").approvalTitle("휴가 신청").build());
+            return approval.getApprovalNo();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        SecurityContextHolder.clearContext();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (String entity : new String[] { "ApprovalEvent", "ApprovalDetail", "ApprovalSigner", "Approval" }) {
+                em.getEntityManager().createQuery("delete from " + entity).executeUpdate();
+            }
+        });
+    }
+
+    private MockHttpServletResponse subscribe(String memberId) throws Exception {
+
+        login(memberId);
+        return mockMvc.perform(get("/approval/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+    }
+
+    private void login(String memberId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(memberId, null));
+    }
+
+    @Test
+    void subscriberReceivesCurrentCountThenDeltasAfterCommit() throws Exception {
+
+        MockHttpServletResponse current = subscribe("approver1");
+        MockHttpServletResponse next = subscribe("approver2");
+
+        assertThat(current.getContentAsString(StandardCharsets.UTF_8)).contains("event:snapshot", "\"pendingCount\":1");
+        assertThat(next.getContentAsString(StandardCharsets.UTF_8)).contains("event:snapshot", "\"pendingCount\":0");
+
+        login("approver1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> approvalService.doApproval(approvalNo));
+
+        // 현재 결재자: 제거, 다음 결재자: 추가 (목록 항목 포함)
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(current.getContentAsString(StandardCharsets.UTF_8)).contains("event:pending", "\"op\":\"REMOVED\"");
+            assertThat(next.getContentAsString(StandardCharsets.UTF_8)).contains("event:pending", "\"op\":\"ADDED\"", "휴가 신청", "기안자");
+        });
+    }
+
+    @Test
+    void rolledBackChangeIsNotPushed() throws Exception {
+
+        MockHttpServletResponse next = subscribe("approver2");
+
+        login("approver1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            approvalService.doApproval(approvalNo);
+            status.setRollbackOnly();
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> approvalService.doApproval(approvalNo));
+
+        // 커밋된 승인 1건만 전송
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(next.getContentAsString(StandardCharsets.UTF_8)).contains("\"op\":\"ADDED\""));
+        assertThat(next.getContentAsString(StandardCharsets.UTF_8).split("event:pending", -1)).hasSize(2);
+    }
+}
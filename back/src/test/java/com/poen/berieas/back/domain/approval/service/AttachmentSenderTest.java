@@ -0,0 +1,123 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.poen.berieas.back.domain.approval.dto.AttachmentFileDto;
+
+// 첨부파일 다운로드 (조건부 요청 / Range / sendfile) 테스트
+class AttachmentSenderTest {
+
+    private static final String SHA256 = "a".repeat(64);
+
+    @TempDir
+    Path root;
+
+    private final AttachmentSender attachmentSender = new AttachmentSender();
+
+    private AttachmentFileDto attachment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        Path path = root.resolve(SHA256);
+        Files.writeString(path, "0123456789");
+        attachment = new AttachmentFileDto(path, "보고서.xlsx", SHA256);
+    }
+
+    @Test
+    void fullDownloadHasValidatorsAndBody() throws Exception {
+
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + SHA256 + "\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment; filename*=UTF-8''");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + SHA256 + "\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void staleIfRangeIgnoresRange() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"" + "b".repeat(64) + "\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void sendfileIsHandedToContainerWithoutWritingBody() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(attachment.path().toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        attachmentSender.send(attachment, request, response);
+        return response;
+    }
+}
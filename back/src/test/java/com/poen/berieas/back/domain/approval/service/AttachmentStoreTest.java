@@ -0,0 +1,139 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.poen.berieas.back.domain.approval.dto.StoredFileDto;
+import com.poen.berieas.back.domain.approval.repository.AttachmentBlobRepository;
+import com.poen.berieas.back.util.MessageUtil;
+
+// 첨부파일 내용 주소 저장소 (스트리밍 해시 / 중복 제거 / 참조 수 / 정리) 테스트
+// 저장소는 트랜잭션 밖에서 호출되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "file.blob-purge-grace=PT0S")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ AttachmentStore.class, MessageUtil.class })
+class AttachmentStoreTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", () -> root.toString());
+    }
+
+    @Autowired
+    private AttachmentStore attachmentStore;
+
+    @Autowired
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void storesStreamedContentUnderItsHashAndKeepsSlotPositions() throws Exception {
+
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) content[i] = (byte) i;
+
+        List<StoredFileDto> stored = attachmentStore.storeDraftFiles(List.of(
+            new MockMultipartFile("files", "empty.txt", null, new byte[0]),
+            new MockMultipartFile("files", "../../report.xlsx", null, content)
+        ));
+
+        assertThat(stored).hasSize(2);
+        assertThat(stored.get(0)).isNull();
+
+        StoredFileDto file = stored.get(1);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(file.sha256()).isEqualTo(sha256);
+        assertThat(file.size()).isEqualTo(content.length);
+        assertThat(file.fileName()).isEqualTo("report.xlsx");
+
+        Path path = attachmentStore.resolve(file.sha256(), file.fileName());
+        assertThat(path).startsWith(root.resolve("blobs"));
+        assertThat(Files.readAllBytes(path)).isEqualTo(content);
+    }
+
+    @Test
+    void identicalUploadsAreStoredOnce() throws Exception {
+
+        byte[] content = "same spreadsheet".getBytes(StandardCharsets.UTF_8);
+
+        StoredFileDto first = attachmentStore.storeDraftFiles(List.of(new MockMultipartFile("files", "a.xlsx", null, content))).get(0);
+        StoredFileDto second = attachmentStore.storeCommentFiles(List.of(new MockMultipartFile("files", "b.xlsx", null, content))).get(0);
+
+        assertThat(second.sha256()).isEqualTo(first.sha256());
+        assertThat(second.fileName()).isEqualTo("b.xlsx");
+        try (Stream<Path> files = Files.walk(root.resolve("blobs"))) {
+            assertThat(files.filter(Files::isRegularFile)
+                .filter(path -> path.getFileName().toString().equals(first.sha256()))).hasSize(1);
+        }
+        assertThat(attachmentBlobRepository.findById(first.sha256())).get()
+            .satisfies(blob -> assertThat(blob.getRefCount()).isZero());
+    }
+
+    @Test
+    void referencedContentSurvivesPurgeUntilReleased() {
+
+        StoredFileDto file = attachmentStore.storeDraftFiles(List.of(
+            new MockMultipartFile("files", "keep.txt", null, "keep".getBytes(StandardCharsets.UTF_8))
+        )).get(0);
+        StoredFileDto orphan = attachmentStore.storeDraftFiles(List.of(
+            new MockMultipartFile("files", "orphan.txt", null, "orphan".getBytes(StandardCharsets.UTF_8))
+        )).get(0);
+
+        // 두 문서가 같은 내용을 참조
+        inTransaction(() -> {
+            attachmentStore.acquire(file);
+            attachmentStore.acquire(file);
+        });
+
+        attachmentStore.purgeUnreferenced();
+        assertThat(attachmentStore.resolve(file.sha256(), file.fileName())).exists();
+        assertThat(attachmentStore.resolve(orphan.sha256(), orphan.fileName())).doesNotExist();
+
+        inTransaction(() -> attachmentStore.release(file.sha256()));
+        attachmentStore.purgeUnreferenced();
+        assertThat(attachmentStore.resolve(file.sha256(), file.fileName())).exists();
+
+        inTransaction(() -> attachmentStore.release(file.sha256()));
+        attachmentStore.purgeUnreferenced();
+        assertThat(attachmentStore.resolve(file.sha256(), file.fileName())).doesNotExist();
+        assertThat(attachmentBlobRepository.findById(file.sha256())).isEmpty();
+    }
+
+    @Test
+    void legacyPathsAreNotTreatedAsBlobs() {
+
+        assertThat(attachmentStore.isBlob("/data/upload")).isFalse();
+        assertThat(attachmentStore.resolve("/data/upload", "a.txt")).isEqualTo(Path.of("/data/upload", "a.txt"));
+
+    }
+
+    // 서비스 트랜잭션 안에서 참조 수를 바꾸는 것과 같은 조건
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,121 @@
+package com.poen.berieas.back.domain.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.approval.dto.FormCacheDto;
+import com.poen.berieas.back.domain.approval.entity.ApprovalSetting;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 양식 캐시 적중/무효화 테스트
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ CacheConfig.class, FormCacheService.class })
+class FormCacheServiceTest {
+
+    @Autowired
+    private FormCacheService formCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private int formNo;
+
+    @BeforeEach
+    void setUp() {
+
+        em.persist(Member.builder()
+            .memberId("approver")
+            .memberName("결재자")
+            .memberDepartment("개발팀")
+            .memberPosition("팀장")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("N")
+            .build());
+
+        formNo = em.persistAndGetId(ApprovalSetting.builder()
+            .formType("휴가")
+            .formTitle("휴가신청서")
+            .formDocument("<p>내용</p>")
+            .formSignId1("결재자")
+            .regId("admin")
+            .regDate(LocalDateTime.now())
+            .build(), Integer.class);
+        em.flush();
+        em.clear();
+
+        cacheManager.getCache(CacheConfig.FORM).clear();
+        cacheManager.getCache(CacheConfig.FORM_LIST).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void formAndApproversAreLoadedOnce() {
+
+        FormCacheDto first = formCacheService.getForm(formNo).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+        FormCacheDto second = formCacheService.getForm(formNo).orElseThrow();
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(second).isSameAs(first);
+        assertThat(second.signIds()).containsExactly("결재자", null, null, null, null);
+        assertThat(second.approvers()).singleElement()
+            .satisfies(approver -> assertThat(approver.getMemberId()).isEqualTo("approver"));
+    }
+
+    @Test
+    void formListIsEvictedOnAdd() {
+
+        assertThat(formCacheService.getForms()).hasSize(1);
+        assertThat(formCacheService.getForms()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        em.persist(ApprovalSetting.builder()
+            .formType("지출")
+            .formTitle("지출결의서")
+            .regId("admin")
+            .regDate(LocalDateTime.now())
+            .build());
+        em.flush();
+        formCacheService.evictList();
+
+        assertThat(formCacheService.getForms()).hasSize(2);
+    }
+
+    @Test
+    void deletedFormIsNotServedFromCache() {
+
+        formCacheService.getForm(formNo);
+
+        em.remove(em.find(ApprovalSetting.class, formNo));
+        em.flush();
+        formCacheService.evict(formNo);
+
+        assertThat(formCacheService.getForm(formNo)).isEmpty();
+    }
+}
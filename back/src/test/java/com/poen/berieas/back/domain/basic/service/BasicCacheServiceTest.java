@@ -0,0 +1,102 @@
+package com.poen.berieas.back.domain.basic.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.config.DomainCorsConfigurationSource;
+import com.poen.berieas.back.domain.basic.entity.Basic;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 코드 테이블 캐시 / CORS 도메인 갱신 테스트
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ CacheConfig.class, BasicCacheService.class })
+class BasicCacheServiceTest {
+
+    @Autowired
+    private BasicCacheService basicCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        em.persist(Basic.builder().type("department").code("").name("개발팀").build());
+        em.persist(Basic.builder().type("position").code("").name("사원").build());
+        em.persist(Basic.builder().type("domain").code("old.example.com").name("도메인").build());
+        em.flush();
+        em.clear();
+
+        cacheManager.getCache(CacheConfig.BASIC).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void eachTypeIsLoadedOnce() {
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(basicCacheService.getDepartments()).hasSize(1);
+            assertThat(basicCacheService.getPositions()).hasSize(1);
+            assertThat(basicCacheService.getDomain()).isEqualTo("old.example.com");
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void evictReloadsOnlyThatType() {
+
+        basicCacheService.getDepartments();
+        basicCacheService.getPositions();
+
+        em.persist(Basic.builder().type("department").code("").name("영업팀").build());
+        em.flush();
+        basicCacheService.evict(BasicCacheService.DEPARTMENT);
+        statistics.clear();
+
+        assertThat(basicCacheService.getDepartments()).hasSize(2);
+        assertThat(basicCacheService.getPositions()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void corsOriginsFollowRefreshedDomain() {
+
+        DomainCorsConfigurationSource source = new DomainCorsConfigurationSource(basicCacheService);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(source.getCorsConfiguration(request).getAllowedOrigins()).contains("https://old.example.com");
+
+        em.getEntityManager()
+            .createQuery("update Basic b set b.code = 'new.example.com' where b.type = 'domain'")
+            .executeUpdate();
+        em.clear();
+        assertThat(source.getCorsConfiguration(request).getAllowedOrigins()).contains("https://old.example.com");
+
+        basicCacheService.evictAll();
+        assertThat(source.getCorsConfiguration(request).getAllowedOrigins())
+            .contains("https://new.example.com")
+            .doesNotContain("https://old.example.com");
+    }
+}
@@ -0,0 +1,130 @@
+package com.poen.berieas.back.domain.email.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.poen.berieas.back.domain.email.entity.MailOutbox;
+import com.poen.berieas.back.domain.email.entity.MailOutboxStatus;
+import com.poen.berieas.back.domain.email.repository.MailOutboxRepository;
+
+// 메일 대기열 발송 테스트 (GreenMail 로컬 SMTP)
+// 대기열은 커밋 후 발송되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = { "mail.outbox.workers=1", "mail.outbox.backoff=PT1M" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ EmailService.class, MailDispatcher.class, MailDispatcherTest.MailConfig.class })
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @TestConfiguration
+    static class MailConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            return mailSender;
+        }
+    }
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void mailsAreDeliveredAfterCommit() {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                emailService.sendEmail("user" + i + "@example.com", "인증 코드", "123456");
+            }
+            // 커밋 전에는 발송되지 않음
+            assertThat(greenMail.getReceivedMessages()).isEmpty();
+        });
+
+        // 커밋 후 작업자가 발송 (테스트 스레드는 dispatch 를 호출하지 않음)
+        assertThat(greenMail.waitForIncomingEmail(5000, 3)).isTrue();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(mailOutboxRepository.findAll()).extracting(MailOutbox::getStatus).containsOnly(MailOutboxStatus.SENT));
+    }
+
+    @Test
+    void rolledBackRequestSendsNothing() {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            emailService.sendEmail("user@example.com", "인증 코드", "123456");
+            status.setRollbackOnly();
+        });
+
+        assertThat(mailDispatcher.dispatch()).isZero();
+        assertThat(mailOutboxRepository.count()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoff() {
+
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+            .recipient("user@example.com")
+            .subject("인증 코드")
+            .body("123456")
+            .status(MailOutboxStatus.PENDING)
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build());
+
+        greenMail.stop();
+        assertThat(mailDispatcher.dispatch()).isZero();
+
+        MailOutbox failed = mailOutboxRepository.findById(mail.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isNotNull();
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+
+        // 백오프 기간 동안은 다시 시도하지 않음
+        greenMail.start();
+        assertThat(mailDispatcher.dispatch()).isZero();
+
+        failed.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        mailOutboxRepository.save(failed);
+        assertThat(mailDispatcher.dispatch()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailOutboxRepository.findById(mail.getId()).orElseThrow().getStatus()).isEqualTo(MailOutboxStatus.SENT);
+    }
+}
@@ -0,0 +1,57 @@
+package com.poen.berieas.back.domain.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.util.JWTUtil;
+
+// 검증된 Access 토큰 캐시 적중 테스트
+@SpringBootTest(classes = { CacheConfig.class, AccessTokenCacheService.class })
+class AccessTokenCacheServiceTest {
+
+    @Autowired
+    private AccessTokenCacheService accessTokenCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache<Object, Object> nativeCache;
+
+    @BeforeEach
+    void setUp() {
+
+        nativeCache = ((CaffeineCache) cacheManager.getCache(CacheConfig.ACCESS_TOKEN)).getNativeCache();
+        nativeCache.invalidateAll();
+    }
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+
+        String token = JWTUtil.createJwt("member01", "USER", true);
+        long hits = nativeCache.stats().hitCount();
+
+        assertThat(accessTokenCacheService.verify(token)).get().extracting("memberId").isEqualTo("member01");
+        assertThat(accessTokenCacheService.verify(token)).get().extracting("role").isEqualTo("USER");
+
+        assertThat(nativeCache.stats().hitCount()).isEqualTo(hits + 1);
+        // 원문 토큰이 아니라 해시를 키로 사용
+        assertThat(nativeCache.asMap().keySet()).hasSize(1).doesNotContain(token);
+    }
+
+    @Test
+    void invalidTokensAreNotCached() {
+
+        assertThat(accessTokenCacheService.verify("not-a-jwt")).isEmpty();
+        assertThat(accessTokenCacheService.verify(JWTUtil.createJwt("member01", "USER", false))).isEmpty();
+
+        assertThat(nativeCache.asMap()).isEmpty();
+    }
+}
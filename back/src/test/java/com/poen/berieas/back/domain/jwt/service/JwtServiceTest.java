@@ -0,0 +1,177 @@
+package com.poen.berieas.back.domain.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.poen.berieas.back.domain.jwt.dto.JWTResponseDto;
+import com.poen.berieas.back.domain.jwt.dto.RefreshRequestDto;
+import com.poen.berieas.back.domain.jwt.entity.RefreshToken;
+import com.poen.berieas.back.domain.jwt.repository.RefreshRepository;
+import com.poen.berieas.back.util.JWTUtil;
+import com.poen.berieas.back.util.MessageUtil;
+
+// Refresh 토큰 해시 저장 / 교체 / 재사용 탐지 테스트
+@DataJpaTest
+@Import({ JwtService.class, MessageUtil.class })
+class JwtServiceTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshRepository refreshRepository;
+
+    private String login(String memberId) {
+
+        String refreshToken = JWTUtil.createJwt(memberId, "ROLE_USER", false);
+        jwtService.addRefresh(memberId, refreshToken);
+        return refreshToken;
+    }
+
+    @AfterEach
+    void resetGrace() {
+
+        setReuseGrace(Duration.ofSeconds(10));
+    }
+
+    private void setReuseGrace(Duration grace) {
+
+        Object target = AopTestUtils.getTargetObject(jwtService);
+        ReflectionTestUtils.setField(target, "reuseGrace", grace);
+    }
+
+    private JWTResponseDto rotate(String refreshToken) {
+
+        RefreshRequestDto dto = new RefreshRequestDto();
+        dto.setRefreshToken(refreshToken);
+        return jwtService.refreshRotate(dto);
+    }
+
+    @Test
+    void storesFixedLengthHashInsteadOfToken() {
+
+        String refreshToken = login("member01");
+
+        RefreshToken stored = refreshRepository.findAll().get(0);
+        assertThat(stored.getTokenHash()).hasSize(32).isEqualTo(JWTUtil.hash(refreshToken));
+        assertThat(jwtService.existsByRefresh(refreshToken)).isTrue();
+    }
+
+    @Test
+    void rotationReplacesTokenInPlace() {
+
+        String first = login("member01");
+
+        JWTResponseDto rotated = rotate(first);
+
+        assertThat(refreshRepository.count()).isEqualTo(1);
+        assertThat(jwtService.existsByRefresh(first)).isFalse();
+        assertThat(jwtService.existsByRefresh(rotated.refreshToken())).isTrue();
+
+        // 새 토큰으로 다시 교체 가능
+        assertThat(rotate(rotated.refreshToken()).refreshToken()).isNotEqualTo(rotated.refreshToken());
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesSession() {
+
+        // 유예 시간 없이 - 교체 이후 재사용은 곧바로 탈취로 봄
+        setReuseGrace(Duration.ZERO);
+
+        String first = login("member01");
+        String other = login("member01");
+        JWTResponseDto rotated = rotate(first);
+
+        // 교체된 토큰 재사용 → 해당 세션 폐기, 새 토큰도 사용 불가
+        assertThatThrownBy(() -> rotate(first)).isInstanceOf(RuntimeException.class);
+        assertThat(jwtService.existsByRefresh(rotated.refreshToken())).isFalse();
+        assertThatThrownBy(() -> rotate(rotated.refreshToken())).isInstanceOf(RuntimeException.class);
+
+        // 다른 세션은 유지
+        assertThat(jwtService.existsByRefresh(other)).isTrue();
+    }
+
+    @Test
+    void reusingWithinGraceKeepsSession() {
+
+        String first = login("member01");
+        JWTResponseDto rotated = rotate(first);
+
+        // 유예 시간 내 재요청 → 거절만 하고 새 토큰은 유지
+        assertThatThrownBy(() -> rotate(first)).isInstanceOf(RuntimeException.class);
+        assertThat(jwtService.existsByRefresh(rotated.refreshToken())).isTrue();
+        assertThat(rotate(rotated.refreshToken()).refreshToken()).isNotNull();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentRefreshOfSameTokenKeepsSession() throws Exception {
+
+        String first = login("member01");
+
+        // 두 탭이 같은 토큰으로 동시에 refresh
+        int tabs = 2;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(tabs);
+        List<JWTResponseDto> issued = new ArrayList<>();
+        int rejected = 0;
+        try {
+            List<Future<JWTResponseDto>> results = new ArrayList<>();
+            for (int i = 0; i < tabs; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return rotate(first);
+                }));
+            }
+            start.countDown();
+
+            for (Future<JWTResponseDto> result : results) {
+                try {
+                    issued.add(result.get());
+                } catch (ExecutionException e) {
+                    rejected++;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        try {
+            // 한쪽만 교체 성공, 다른 쪽은 거절되지만 세션은 유지
+            assertThat(issued).hasSize(1);
+            assertThat(rejected).isEqualTo(1);
+            assertThat(jwtService.existsByRefresh(issued.get(0).refreshToken())).isTrue();
+        } finally {
+            refreshRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void loggedOutTokenCannotBeRotated() {
+
+        String refreshToken = login("member01");
+
+        jwtService.removeRefresh(refreshToken);
+
+        assertThatThrownBy(() -> rotate(refreshToken)).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.poen.berieas.back.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.poen.berieas.back.config.CacheConfig;
+import com.poen.berieas.back.domain.member.entity.Member;
+import com.poen.berieas.back.domain.member.entity.RoleType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 회원 캐시 적중/무효화 테스트
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ CacheConfig.class, MemberCacheService.class })
+class MemberCacheServiceTest {
+
+    @Autowired
+    private MemberCacheService memberCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        em.persist(Member.builder()
+            .memberId("member1")
+            .memberName("회원1")
+            .memberDepartment("개발팀")
+            .memberPosition("사원")
+            .useYn("Y")
+            .role(RoleType.USER)
+            .isFirstLogin("Y")
+            .build());
+        em.flush();
+        em.clear();
+
+        cacheManager.getCache(CacheConfig.MEMBER).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+
+        CacheStats before = memberCacheStats();
+
+        assertThat(memberCacheService.getMember("member1")).isPresent();
+        assertThat(memberCacheService.getMember("member1")).get()
+            .satisfies(member -> assertThat(member.memberName()).isEqualTo("회원1"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        CacheStats stats = memberCacheStats().minus(before);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictReloadsChangedMember() {
+
+        memberCacheService.getMember("member1");
+
+        Member member = em.find(Member.class, "member1");
+        member.setUseYn("N");
+        em.flush();
+        memberCacheService.evict("member1");
+
+        assertThat(memberCacheService.getMember("member1")).get()
+            .satisfies(cached -> assertThat(cached.useYn()).isEqualTo("N"));
+    }
+
+    @Test
+    void unknownMemberIsNotCached() {
+
+        assertThat(memberCacheService.getMember("nobody")).isEmpty();
+        assertThat(memberCacheService.getMember("nobody")).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private CacheStats memberCacheStats() {
+        return ((CaffeineCache) cacheManager.getCache(CacheConfig.MEMBER)).getNativeCache().stats();
+    }
+}
@@ -0,0 +1,85 @@
+package com.poen.berieas.back.domain.system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.poen.berieas.back.domain.email.entity.PasswordResetRequest;
+import com.poen.berieas.back.domain.email.repository.PasswordResetRequestRepository;
+import com.poen.berieas.back.domain.jwt.entity.RefreshToken;
+import com.poen.berieas.back.domain.jwt.repository.RefreshRepository;
+import com.poen.berieas.back.domain.system.entity.SystemLog;
+import com.poen.berieas.back.domain.system.repository.SystemLogRepository;
+import com.poen.berieas.back.util.JWTUtil;
+
+// 보관 기간 지난 데이터 배치 정리 테스트
+@DataJpaTest(properties = { "purge.batch-size=3", "purge.batch-pause=PT0S" })
+@Import(TtlPurgeService.class)
+class TtlPurgeServiceTest {
+
+    @Autowired
+    private TtlPurgeService ttlPurgeService;
+
+    @Autowired
+    private RefreshRepository refreshRepository;
+
+    @Autowired
+    private PasswordResetRequestRepository passwordResetRequestRepository;
+
+    @Autowired
+    private SystemLogRepository systemLogRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void expiredRefreshTokensAreDeletedInBatchesAndLogged() {
+
+        for (int i = 0; i < 10; i++) {
+            em.persist(RefreshToken.builder()
+                .memberId("member" + i)
+                .tokenHash(JWTUtil.hash("token" + i))
+                .build());
+        }
+        em.flush();
+
+        // 7건은 보관 기간(8일) 초과, 3건은 최근
+        em.getEntityManager().createQuery("update RefreshToken r set r.createdDate = :date")
+            .setParameter("date", LocalDateTime.now().minusDays(10))
+            .executeUpdate();
+        em.getEntityManager().createQuery("update RefreshToken r set r.createdDate = :date where r.memberId in ('member0', 'member1', 'member2')")
+            .setParameter("date", LocalDateTime.now())
+            .executeUpdate();
+
+        assertThat(ttlPurgeService.purgeRefreshTokens()).isEqualTo(7);
+        assertThat(refreshRepository.count()).isEqualTo(3);
+
+        // 3건씩 3배치 (3 + 3 + 1)
+        SystemLog log = systemLogRepository.findByLogKeyOrderByRegDateDesc("purge.refresh_token").get(0);
+        assertThat(log.getLogValue()).contains("deleted=7", "batches=3", "complete=true", "rowsPerSec=");
+    }
+
+    @Test
+    void expiredPasswordResetRequestsAreDeleted() {
+
+        for (int i = 0; i < 5; i++) {
+            PasswordResetRequest request = new PasswordResetRequest();
+            request.setEmail("user" + i + "@example.com");
+            request.setCode("123456");
+            // 2건만 만료 후 보관 기간(1일) 초과
+            request.setExpireTime(i < 2 ? LocalDateTime.now().minusDays(2) : LocalDateTime.now().plusMinutes(3));
+            em.persist(request);
+        }
+        em.flush();
+
+        assertThat(ttlPurgeService.purgePasswordResetRequests()).isEqualTo(2);
+        assertThat(passwordResetRequestRepository.count()).isEqualTo(3);
+        assertThat(systemLogRepository.findByLogKeyOrderByRegDateDesc("purge.password_reset_request")).hasSize(1);
+    }
+}
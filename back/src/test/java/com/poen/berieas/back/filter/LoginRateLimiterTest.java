@@ -0,0 +1,97 @@
+package com.poen.berieas.back.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.poen.berieas.back.config.BoundedPasswordEncoder;
+
+// 로그인 시도 제한 / 비밀번호 해시 작업 풀 테스트
+class LoginRateLimiterTest {
+
+    @Test
+    void accountIsThrottledOnlyAfterFailures() {
+
+        LoginRateLimiter limiter = new LoginRateLimiter(100, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), 1000);
+
+        // 성공한 시도는 계정 버킷을 차감하지 않음
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("10.0.0.1", "member01");
+        }
+
+        limiter.recordFailure("member01");
+        limiter.recordFailure("member01");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "member01"))
+            .isInstanceOf(LoginThrottledException.class)
+            .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfter()).isEqualTo(Duration.ofMinutes(1)));
+
+        // 다른 계정은 영향 없음
+        limiter.acquire("10.0.0.1", "member02");
+    }
+
+    @Test
+    void ipIsThrottledAcrossAccounts() {
+
+        LoginRateLimiter limiter = new LoginRateLimiter(3, Duration.ofMinutes(1), 5, Duration.ofMinutes(1), 1000);
+
+        limiter.acquire("10.0.0.1", "a");
+        limiter.acquire("10.0.0.1", "b");
+        limiter.acquire("10.0.0.1", "c");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "d"))
+            .isInstanceOf(LoginThrottledException.class);
+
+        limiter.acquire("10.0.0.2", "d");
+    }
+
+    @Test
+    void hashingQueueOverflowIsRejected() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 작업자 1 + 대기열 1 을 채움
+            Future<Boolean> running = callers.submit(() -> encoder.matches("pw", "pw"));
+            Future<Boolean> queued = callers.submit(() -> encoder.matches("pw", "pw"));
+            Thread.sleep(200);
+
+            assertThatThrownBy(() -> encoder.matches("pw", "pw"))
+                .isInstanceOf(LoginThrottledException.class);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            callers.shutdownNow();
+            encoder.destroy();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.poen.berieas.back.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.poen.berieas.back.util.JWTUtil.TokenClaims;
+
+// JWT 한 번 파싱(검증 + 클레임) 테스트
+class JWTUtilTest {
+
+    @Test
+    void parseReturnsClaimsOfValidToken() {
+
+        String token = JWTUtil.createJwt("member01", "USER", true);
+
+        TokenClaims claims = JWTUtil.parse(token, true).orElseThrow();
+
+        assertThat(claims.memberId()).isEqualTo("member01");
+        assertThat(claims.role()).isEqualTo("USER");
+        assertThat(claims.expiration()).isInTheFuture();
+    }
+
+    @Test
+    void parseRejectsWrongTypeAndTamperedToken() {
+
+        String refresh = JWTUtil.createJwt("member01", "USER", false);
+        String access = JWTUtil.createJwt("member01", "USER", true);
+        String tampered = access.substring(0, access.length() - 2) + (access.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(JWTUtil.parse(refresh, true)).isEmpty();
+        assertThat(JWTUtil.parse(access, false)).isEmpty();
+        assertThat(JWTUtil.parse(tampered, true)).isEmpty();
+        assertThat(JWTUtil.parse("not-a-jwt", true)).isEmpty();
+    }
+}
@@ -218,20 +218,26 @@ const ApprovalWriteContent = ({ userInfo, onSaveBeforeNew }) => {
         const approvers = [];
         const referrers = [];
 
-        // 결재자 설정
+        // 결재자 설정 (memberId 로 찾고, 없으면 이름으로 - 동명이인 구분)
+        const signMemberIds = data.signMemberIds || [];
         [data.signId1, data.signId2, data.signId3, data.signId4, data.signId5]
-          .filter(Boolean)
-          .forEach((signId) => {
-            const member = members.find((m) => m.memberName === signId);
+          .forEach((signId, index) => {
+            if (!signId) return;
+            const member =
+              members.find((m) => m.memberId === signMemberIds[index]) ||
+              members.find((m) => m.memberName === signId);
             if (member) approvers.push(member);
           });
         setSelectedApprovers(approvers);
 
-        // 참조자 설정
+        // 참조자 설정 (memberId 로 찾고, 없으면 이름으로 - 동명이인 구분)
         if (data.referenceId) {
+          const referenceMemberIds = data.referenceMemberIds || [];
           const referrerNames = data.referenceId.split(',');
-          referrerNames.forEach((name) => {
-            const member = members.find((m) => m.memberName === name.trim());
+          referrerNames.forEach((name, index) => {
+            const member =
+              members.find((m) => m.memberId === referenceMemberIds[index]) ||
+              members.find((m) => m.memberName === name.trim());
             if (member) referrers.push(member);
           });
           setSelectedReferrers(referrers);
@@ -595,7 +601,9 @@ const ApprovalWriteContent = ({ userInfo, onSaveBeforeNew }) => {
         signId3: formData.signId3,
         signId4: formData.signId4,
         signId5: formData.signId5,
+        signMemberIds: selectedApprovers.map((member) => member.memberId),
         referenceId: formData.referenceId,
+        referenceMemberIds: selectedReferrers.map((member) => member.memberId),
       };
 
       // 기존 기안서가 있으면 번호 추가
@@ -758,7 +766,9 @@ const ApprovalWriteContent = ({ userInfo, onSaveBeforeNew }) => {
         signId3: formData.signId3,
         signId4: formData.signId4,
         signId5: formData.signId5,
+        signMemberIds: selectedApprovers.map((member) => member.memberId),
         referenceId: formData.referenceId,
+        referenceMemberIds: selectedReferrers.map((member) => member.memberId),
       };
 
       // 기존 기안서가 있으면 번호 추가
@@ -15,7 +15,7 @@ import {
   TableBody,
 } from '@mui/material';
 import { API_URLS } from '../../config/api';
-import { apiRequest } from '../../utils/apiHelper';
+import { apiRequest, subscribeStream } from '../../utils/apiHelper';
 import PageHeader from '../common/PageHeader';
 import { useLanguage } from '../../contexts/LanguageContext';
 
@@ -33,105 +33,69 @@ const DashboardContent = ({ userInfo, isMobile = false }) => {
 
   const [mySubmittedDocs, setMySubmittedDocs] = useState([]);
   const [myPendingDocs, setMyPendingDocs] = useState([]);
+  const [pendingCount, setPendingCount] = useState(0);
 
   useEffect(() => {
-    fetchSummaryCounts();
-    fetchMySubmittedDocs();
-    fetchMyPendingDocs();
+    fetchDashboard();
   }, []);
 
-  const parseCount = async (res) => {
-    try {
-      const data = await res.json();
-      // 응답이 객체인 경우 숫자 값을 추출
-      if (typeof data === 'object' && data !== null) {
-        // 숫자 값이 있는 경우 해당 값을 반환
-        if (typeof data === 'number') {
-          return data;
-        }
-        // 객체에 count나 value 같은 필드가 있는 경우
-        if (data.count !== undefined) {
-          return data.count;
-        }
-        if (data.value !== undefined) {
-          return data.value;
-        }
-        // 그 외의 경우 0 반환
-        return 0;
-      }
-      return data;
-    } catch (e) {
-      console.error(e);
-      const text = await res.text();
-      const num = Number(text);
-      return Number.isNaN(num) ? 0 : num;
-    }
-  };
-
-  const fetchSummaryCounts = async () => {
-    try {
-      const headers = {
-        Authorization: `Bearer ${localStorage.getItem('accessToken')}`,
-        'Content-Type': 'application/json',
-      };
-
-      const requestOptions = {
-        method: 'GET',
-        headers,
-        credentials: 'include',
-      };
-
-      const [totalRes, inProgRes, completedRes] = await Promise.all([
-        fetch(API_URLS.APPROVAL_TOTAL, requestOptions),
-        fetch(API_URLS.APPROVAL_IN_PROGRESS, requestOptions),
-        fetch(API_URLS.APPROVAL_COMPLETED, requestOptions),
-      ]);
-
-      // 응답 상태 확인
-      if (!totalRes.ok || !inProgRes.ok || !completedRes.ok) {
-        throw new Error('API 요청 실패');
-      }
+  // 내가 결재할 문서 실시간 반영 (다시 조회하지 않고 변경분만 적용)
+  useEffect(() => {
+    const controller = new AbortController();
+    let connected = false;
 
-      const [total, inProgress, completed] = await Promise.all([
-        parseCount(totalRes),
-        parseCount(inProgRes),
-        parseCount(completedRes),
-      ]);
+    subscribeStream(
+      API_URLS.APPROVAL_STREAM,
+      (name, data) => {
+        if (name === 'snapshot') {
+          // 재연결이면 끊긴 동안의 변경분을 놓쳤을 수 있으므로 한 번 다시 조회
+          if (connected) fetchDashboard();
+          connected = true;
+        } else if (name === 'pending') {
+          setMyPendingDocs((docs) => {
+            const rest = docs.filter((doc) => doc.approvalNo !== data.approvalNo);
+            return data.op === 'ADDED' && data.approval
+              ? [data.approval, ...rest]
+              : rest;
+          });
+        }
+      },
+      controller.signal
+    );
 
-      setStatusData({ total, inProgress, completed });
-    } catch (error) {
-      setStatusData({ total: 15, inProgress: 8, completed: 7 });
-    }
-  };
+    return () => controller.abort();
+  }, []);
 
-  const fetchMySubmittedDocs = async () => {
+  // 카운트 + 내가 상신한 문서 + 내가 결재할 문서를 한 번에 조회
+  const fetchDashboard = async () => {
     try {
-      const response = await apiRequest(API_URLS.APPROVAL_MY_SUBMITTED, {
+      const response = await apiRequest(API_URLS.APPROVAL_DASHBOARD, {
         method: 'GET',
       });
 
-      if (response.ok) {
-        setMySubmittedDocs(Array.isArray(response.data) ? response.data : []);
+      if (response.ok && response.data) {
+        const {
+          total,
+          inProgress,
+          completed,
+          mySubmitted,
+          myPending,
+          pendingCount,
+        } = response.data;
+        setStatusData({
+          total: total ?? 0,
+          inProgress: inProgress ?? 0,
+          completed: completed ?? 0,
+        });
+        setMySubmittedDocs(Array.isArray(mySubmitted) ? mySubmitted : []);
+        setMyPendingDocs(Array.isArray(myPending) ? myPending : []);
+        setPendingCount(pendingCount ?? 0);
       } else {
         setMySubmittedDocs([]);
-      }
-    } catch (error) {
-      setMySubmittedDocs([]);
-    }
-  };
-
-  const fetchMyPendingDocs = async () => {
-    try {
-      const response = await apiRequest(API_URLS.APPROVAL_MY_PENDING, {
-        method: 'GET',
-      });
-
-      if (response.ok) {
-        setMyPendingDocs(Array.isArray(response.data) ? response.data : []);
-      } else {
         setMyPendingDocs([]);
       }
     } catch (error) {
+      setMySubmittedDocs([]);
       setMyPendingDocs([]);
     }
   };
@@ -299,7 +263,7 @@ const DashboardContent = ({ userInfo, isMobile = false }) => {
                       fontWeight: 600,
                     }}
                   >
-                    {myPendingDocs.length}
+                    {pendingCount}
                   </Box>
                 </Box>
               }
@@ -32,11 +32,8 @@ const API_CONFIG = {
     ADD_POSITION: '/addPosition',
     UPDATE_POSITION: '/updatePosition',
     DELETE_POSITION: '/deletePosition',
-    APPROVAL_TOTAL: '/approval/total',
-    APPROVAL_IN_PROGRESS: '/approval/inProgress',
-    APPROVAL_COMPLETED: '/approval/completed',
-    APPROVAL_MY_SUBMITTED: '/approval/mySubmitted',
-    APPROVAL_MY_PENDING: '/approval/mypending',
+    APPROVAL_DASHBOARD: '/approval/dashboard',
+    APPROVAL_STREAM: '/approval/stream',
     APPROVAL_ALL: '/approval/allApprovals',
     APPROVAL_DRAFTING: '/approval/temporarySavedApprovals',
     APPROVAL_IN_PROGRESS_LIST: '/approval/inProgressApprovals',
@@ -106,15 +103,12 @@ export const API_URLS = {
   UPDATE_POSITION: getApiUrl(API_CONFIG.ENDPOINTS.UPDATE_POSITION),
   DELETE_POSITION: getApiUrl(API_CONFIG.ENDPOINTS.DELETE_POSITION),
 
-  APPROVAL_TOTAL: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_TOTAL),
-  APPROVAL_COMPLETED: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_COMPLETED),
-  APPROVAL_MY_SUBMITTED: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_MY_SUBMITTED),
-  APPROVAL_MY_PENDING: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_MY_PENDING),
+  APPROVAL_DASHBOARD: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_DASHBOARD),
+  APPROVAL_STREAM: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_STREAM),
 
   // progresslistcontent 진행목록
   APPROVAL_ALL: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_ALL),
   APPROVAL_DRAFTING: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_DRAFTING),
-  APPROVAL_IN_PROGRESS: getApiUrl(API_CONFIG.ENDPOINTS.APPROVAL_IN_PROGRESS),
   APPROVAL_IN_PROGRESS_LIST: getApiUrl(
     API_CONFIG.ENDPOINTS.APPROVAL_IN_PROGRESS_LIST
   ),
@@ -2,8 +2,10 @@ import { API_URLS } from '../config/api';
 
 // 토큰 refresh 함수
 const refreshToken = async () => {
+  let sentRefreshToken = null;
   try {
     const refreshToken = localStorage.getItem('refreshToken');
+    sentRefreshToken = refreshToken;
     if (!refreshToken) {
       throw new Error('No refresh token');
     }
@@ -31,6 +33,12 @@ const refreshToken = async () => {
 
     return data.accessToken;
   } catch (error) {
+    // 다른 탭이 먼저 같은 토큰으로 재발급한 경우 - 저장된 최신 토큰 사용
+    const latestRefreshToken = localStorage.getItem('refreshToken');
+    if (latestRefreshToken && latestRefreshToken !== sentRefreshToken) {
+      return localStorage.getItem('accessToken');
+    }
+
     console.error('Token refresh failed:', error);
     // refresh 실패 시 로그인 페이지로 리다이렉트
     localStorage.removeItem('accessToken');
@@ -127,4 +135,60 @@ export const apiRequest = async (url, options = {}) => {
   }
 };
 
+// SSE 구독 (EventSource 는 Authorization 헤더를 보낼 수 없어서 fetch 스트림으로 읽음)
+// onEvent(name, data) 로 이벤트 전달, 연결이 끊기면 잠시 후 재연결, signal 로 종료
+export const subscribeStream = async (url, onEvent, signal, retryDelay = 3000) => {
+  while (!signal.aborted) {
+    try {
+      let response = await fetch(url, {
+        headers: { Authorization: `Bearer ${localStorage.getItem('accessToken')}` },
+        credentials: 'include',
+        signal,
+      });
+
+      // 401 에러 시 토큰 refresh 후 재연결
+      if (response.status === 401) {
+        const newAccessToken = await refreshToken();
+        response = await fetch(url, {
+          headers: { Authorization: `Bearer ${newAccessToken}` },
+          credentials: 'include',
+          signal,
+        });
+      }
+
+      if (response.ok && response.body) {
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += decoder.decode(value, { stream: true });
+
+          // 이벤트는 빈 줄로 구분
+          let boundary;
+          while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const block = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+
+            let name = 'message';
+            const data = [];
+            block.split('\n').forEach((line) => {
+              if (line.startsWith('event:')) name = line.slice(6).trim();
+              else if (line.startsWith('data:')) data.push(line.slice(5));
+            });
+            if (data.length > 0) {
+              onEvent(name, JSON.parse(data.join('\n')));
+            }
+          }
+        }
+      }
+    } catch (error) {
+      if (signal.aborted) return;
+    }
+    await new Promise((resolve) => setTimeout(resolve, retryDelay));
+  }
+};
+
 export default apiRequest;